@@ -7,6 +7,8 @@ public interface AnswerFragment {
 
     void restoreQuestion(QuestionContext context, Question question);
 
+    void changeQuestion(QuestionContext context, Question question);
+
     boolean isEmptyAnswer();
 
     boolean isCorrectAnswer();
@@ -7,12 +7,14 @@ import android.net.Uri;
 import android.os.Bundle;
 import android.os.ParcelFileDescriptor;
 import android.provider.OpenableColumns;
+import android.util.Log;
 import android.view.Menu;
 import android.view.MenuItem;
 import android.view.View;
 import android.view.animation.Animation;
 import android.view.animation.AnimationUtils;
 import android.widget.Button;
+import android.widget.SearchView;
 import android.widget.Spinner;
 import android.widget.Switch;
 import android.widget.TextView;
@@ -29,11 +31,14 @@ import androidx.recyclerview.widget.RecyclerView;
 import com.google.android.material.floatingactionbutton.FloatingActionButton;
 import com.staticom.wordreminder.adapter.CheckableAdapter;
 import com.staticom.wordreminder.adapter.VocabularyListAdapter;
+import com.staticom.wordreminder.core.GlobalSearch;
 import com.staticom.wordreminder.core.Meaning;
+import com.staticom.wordreminder.core.QuestionContext;
 import com.staticom.wordreminder.core.Tag;
 import com.staticom.wordreminder.core.Vocabulary;
 import com.staticom.wordreminder.core.VocabularyList;
 import com.staticom.wordreminder.core.VocabularyMetadata;
+import com.staticom.wordreminder.core.VocabularyPersistence;
 import com.staticom.wordreminder.core.Word;
 import com.staticom.wordreminder.utility.AlertDialog;
 import com.staticom.wordreminder.utility.CustomDialog;
@@ -50,6 +55,7 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 public class MainActivity extends AppCompatActivity {
 
@@ -57,6 +63,8 @@ public class MainActivity extends AppCompatActivity {
         void onVocabularyNameInputted(String name);
     }
 
+    private static final String TAG = "MainActivity";
+
     private Menu menu;
 
     private ActivityResultLauncher<String> exportVocabularyResult;
@@ -67,6 +75,7 @@ public class MainActivity extends AppCompatActivity {
     private VocabularyListAdapter vocabularyListAdapter;
     private VocabularyMetadata selectedVocabulary;
     private ActivityResultLauncher<Intent> openVocabularyResult;
+    private GlobalSearch globalSearch;
 
     private FloatingActionButton create, load;
     private boolean isOpenAddButtons = false;
@@ -100,6 +109,8 @@ public class MainActivity extends AppCompatActivity {
     }
 
     private boolean readVocabularyList() {
+        VocabularyPersistence.getInstance().waitForPendingSaves();
+
         try {
             final Path path = rootPath.resolve("vocabularyList.json");
             if (Files.exists(path)) {
@@ -167,6 +178,7 @@ public class MainActivity extends AppCompatActivity {
         final VocabularyMetadata vocabulary = VocabularyMetadata.deserialize(intent.getSerializableExtra("vocabulary"));
 
         selectedVocabulary.setVocabulary(vocabulary.getVocabulary());
+        selectedVocabulary.setShouldSave(vocabulary.shouldSave());
         //selectedVocabulary.setTime(vocabulary.getTime()); TODO
 
         vocabularyListAdapter.notifyItemChanged(vocabularyListAdapter.getSelectedIndex());
@@ -271,6 +283,8 @@ public class MainActivity extends AppCompatActivity {
 
         rootPath = getFilesDir().toPath();
 
+        globalSearch = new GlobalSearch(getMainExecutor());
+
         if (readVocabularyList()) {
             vocabularyListAdapter = new VocabularyListAdapter(vocabularyList);
 
@@ -342,9 +356,69 @@ public class MainActivity extends AppCompatActivity {
             menu.setGroupVisible(R.id.editMenus, true);
         }
 
+        final MenuItem searchVocabularies = menu.findItem(R.id.searchVocabularies);
+
+        if (vocabularyListAdapter == null) {
+            searchVocabularies.setVisible(false);
+
+            return true;
+        }
+
+        final SearchView searchView = (SearchView)searchVocabularies.getActionView();
+
+        searchView.setQueryHint(getString(R.string.main_activity_search_hint));
+        searchView.setMaxWidth(Integer.MAX_VALUE);
+        searchView.setOnQueryTextListener(new SearchView.OnQueryTextListener() {
+            @Override
+            public boolean onQueryTextSubmit(String query) {
+                searchVocabularies(query.trim());
+
+                return true;
+            }
+
+            @Override
+            public boolean onQueryTextChange(String newText) {
+                searchVocabularies(newText.trim());
+
+                return true;
+            }
+        });
+        searchVocabularies.setOnActionExpandListener(new MenuItem.OnActionExpandListener() {
+            @Override
+            public boolean onMenuItemActionExpand(MenuItem item) {
+                return true;
+            }
+
+            @Override
+            public boolean onMenuItemActionCollapse(MenuItem item) {
+                searchVocabularies("");
+
+                return true;
+            }
+        });
+
         return true;
     }
 
+    private void searchVocabularies(String query) {
+        if (query.isEmpty()) {
+            globalSearch.cancel();
+            vocabularyListAdapter.clearSearchResults();
+
+            return;
+        }
+
+        vocabularyListAdapter.startSearch();
+
+        globalSearch.search(vocabularyList, query, (searchedQuery, vocabulary, words) -> {
+            vocabularyListAdapter.setSearchResult(vocabulary, words);
+        }, (searchedQuery, vocabulary, e) -> {
+            vocabularyListAdapter.setSearchFailed(vocabulary);
+
+            e.printStackTrace();
+        });
+    }
+
     private void deleteVocabulary() {
         final AlertDialog dialog = new AlertDialog(this,
                 R.string.main_activity_menu_delete,
@@ -431,12 +505,24 @@ public class MainActivity extends AppCompatActivity {
 
     private void writeVocabularyList() {
         try {
-            vocabularyList.saveAndDeleteVocabulary();
-
             final Path path = rootPath.resolve("vocabularyList.json");
             final JSONArray array = vocabularyList.saveToJSONArray();
+            final VocabularyPersistence persistence = VocabularyPersistence.getInstance();
+
+            CompletableFuture.allOf(
+                    vocabularyList.saveAndDeleteVocabulary(),
+                    persistence.writeFile(path, array.toString().getBytes())).whenCompleteAsync((result, e) -> {
+                if (e == null) {
+                    if (BuildConfig.DEBUG) {
+                        Log.d(TAG, "Vocabulary fsync took " + persistence.getLastSyncDuration().toMillis() + " ms");
+                    }
+                } else {
+                    Toast.makeText(getApplicationContext(),
+                            R.string.main_activity_error_write_vocabulary_list, Toast.LENGTH_LONG).show();
 
-            Files.write(path, array.toString().getBytes());
+                    e.printStackTrace();
+                }
+            }, getMainExecutor());
         } catch (final Exception e) {
             Toast.makeText(this, R.string.main_activity_error_write_vocabulary_list, Toast.LENGTH_LONG).show();
 
@@ -451,6 +537,13 @@ public class MainActivity extends AppCompatActivity {
         writeVocabularyList();
     }
 
+    @Override
+    public void onDestroy() {
+        super.onDestroy();
+
+        globalSearch.close();
+    }
+
     private void toggleAddButtons() {
         if (isOpenAddButtons) {
             load.startAnimation(createCloseAnimation);
@@ -552,6 +645,8 @@ public class MainActivity extends AppCompatActivity {
         final Switch displayPronunciation = dialog.findViewById(R.id.display_pronunciation);
         final Switch displayExample = dialog.findViewById(R.id.display_example);
         final Switch disableDuplication = dialog.findViewById(R.id.disableDuplication);
+        final Spinner choiceCount = dialog.findViewById(R.id.choiceCount);
+        final Switch spacedRepetition = dialog.findViewById(R.id.spacedRepetition);
 
         final SharedPreferences preferences = getPreferences(MODE_PRIVATE);
 
@@ -563,6 +658,8 @@ public class MainActivity extends AppCompatActivity {
         displayPronunciation.setChecked(preferences.getBoolean("displayPronunciation", false));
         displayExample.setChecked(preferences.getBoolean("displayExample", false));
         disableDuplication.setChecked(preferences.getBoolean("disableDuplication", false));
+        choiceCount.setSelection(preferences.getInt("choiceCount", QuestionContext.MAX_CHOICE_COUNT) - QuestionContext.MIN_CHOICE_COUNT);
+        spacedRepetition.setChecked(preferences.getBoolean("spacedRepetition", false));
 
         final Switch selectTags = dialog.findViewById(R.id.selectTags);
         final CheckableAdapter tagsAdapter;
@@ -610,6 +707,11 @@ public class MainActivity extends AppCompatActivity {
             intent.putExtra("displayPronunciation", displayPronunciation.isChecked());
             intent.putExtra("displayExample", displayExample.isChecked());
             intent.putExtra("disableDuplication", disableDuplication.isChecked());
+            intent.putExtra("choiceCount", choiceCount.getSelectedItemPosition() + QuestionContext.MIN_CHOICE_COUNT);
+
+            if (spacedRepetition.isChecked() && selectedVocabulary.getPath() != null) {
+                intent.putExtra("reviewPath", selectedVocabulary.getPath().toString());
+            }
 
             startResult.launch(intent);
 
@@ -623,6 +725,8 @@ public class MainActivity extends AppCompatActivity {
             editor.putBoolean("displayPronunciation", displayPronunciation.isChecked());
             editor.putBoolean("displayExample", displayExample.isChecked());
             editor.putBoolean("disableDuplication", disableDuplication.isChecked());
+            editor.putInt("choiceCount", choiceCount.getSelectedItemPosition() + QuestionContext.MIN_CHOICE_COUNT);
+            editor.putBoolean("spacedRepetition", spacedRepetition.isChecked());
 
             editor.apply();
 
@@ -5,21 +5,20 @@ import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
 import android.widget.RadioButton;
+import android.widget.RadioGroup;
 
-import androidx.core.text.HtmlCompat;
 import androidx.fragment.app.Fragment;
 
-import com.staticom.wordreminder.core.Meaning;
 import com.staticom.wordreminder.core.Question;
 import com.staticom.wordreminder.core.QuestionContext;
-import com.staticom.wordreminder.core.QuestionType;
 
 public class MultipleChoiceFragment extends Fragment implements AnswerFragment {
 
     private QuestionContext context;
     private Question question;
 
-    private final RadioButton[] choices = new RadioButton[5];
+    private RadioGroup choiceGroup;
+    private final RadioButton[] choices = new RadioButton[QuestionContext.MAX_CHOICE_COUNT];
 
     public MultipleChoiceFragment() {
     }
@@ -32,29 +31,13 @@ public class MultipleChoiceFragment extends Fragment implements AnswerFragment {
     private void updateChoicesText() {
         if (question == null) return;
 
-        final QuestionType type = question.getType();
-
-        for (int i = 0; i < 5; ++i) {
-            final Meaning choice = question.getChoice(i);
-            final StringBuilder textBuilder = new StringBuilder();
-
-            textBuilder.append(type.getAnswerComponent(choice));
-
-            if (context.shouldDisplayPronunciation() && type.shouldDisplayPronunciationForAnswerComponent(choice)) {
-                textBuilder.append("<br><small>");
-                textBuilder.append(String.format(
-                        getString(R.string.question_activity_hint_pronunciation), choice.getPronunciation()));
-                textBuilder.append("</small>");
+        for (int i = 0; i < choices.length; ++i) {
+            if (i < question.getChoiceCount()) {
+                choices[i].setText(QuestionTexts.getChoiceText(requireContext(), context, question, i));
+                choices[i].setVisibility(View.VISIBLE);
+            } else {
+                choices[i].setVisibility(View.GONE);
             }
-
-            if (context.shouldDisplayExample() && type.shouldDisplayExampleForAnswerComponent(choice)) {
-                textBuilder.append("<br><small>");
-                textBuilder.append(String.format(
-                        getString(R.string.question_activity_hint_example), choice.getExample()));
-                textBuilder.append("</small>");
-            }
-
-            choices[i].setText(HtmlCompat.fromHtml(textBuilder.toString(), HtmlCompat.FROM_HTML_MODE_LEGACY));
         }
     }
 
@@ -62,6 +45,7 @@ public class MultipleChoiceFragment extends Fragment implements AnswerFragment {
     public View onCreateView(LayoutInflater inflater, ViewGroup container, Bundle savedInstanceState) {
         final View view = inflater.inflate(R.layout.fragment_multiple_choice, container, false);
 
+        choiceGroup = view.findViewById(R.id.choices);
         choices[0] = view.findViewById(R.id.choice0);
         choices[1] = view.findViewById(R.id.choice1);
         choices[2] = view.findViewById(R.id.choice2);
@@ -79,6 +63,14 @@ public class MultipleChoiceFragment extends Fragment implements AnswerFragment {
         this.question = question;
     }
 
+    @Override
+    public void changeQuestion(QuestionContext context, Question question) {
+        restoreQuestion(context, question);
+
+        choiceGroup.clearCheck();
+        updateChoicesText();
+    }
+
     @Override
     public boolean isEmptyAnswer() {
         for (final RadioButton choice : choices) {
@@ -90,7 +82,7 @@ public class MultipleChoiceFragment extends Fragment implements AnswerFragment {
 
     @Override
     public boolean isCorrectAnswer() {
-        for (int i = 0; i < 5; ++i) {
+        for (int i = 0; i < question.getChoiceCount(); ++i) {
             if (choices[i].isChecked())
                 return question.getAnswer() == question.getChoice(i);
         }
@@ -2,13 +2,13 @@ package com.staticom.wordreminder;
 
 import android.content.Intent;
 import android.os.Bundle;
+import android.util.Log;
 import android.view.View;
 import android.widget.TextView;
 import android.widget.Toast;
 
 import androidx.activity.OnBackPressedCallback;
 import androidx.appcompat.app.AppCompatActivity;
-import androidx.core.text.HtmlCompat;
 import androidx.fragment.app.Fragment;
 import androidx.fragment.app.FragmentManager;
 import androidx.fragment.app.FragmentTransaction;
@@ -16,6 +16,7 @@ import androidx.fragment.app.FragmentTransaction;
 import com.staticom.wordreminder.core.Meaning;
 import com.staticom.wordreminder.core.Question;
 import com.staticom.wordreminder.core.QuestionContext;
+import com.staticom.wordreminder.core.QuestionQueue;
 import com.staticom.wordreminder.core.QuestionType;
 import com.staticom.wordreminder.core.Tag;
 import com.staticom.wordreminder.core.Vocabulary;
@@ -23,6 +24,7 @@ import com.staticom.wordreminder.core.VocabularyMetadata;
 import com.staticom.wordreminder.core.Word;
 
 import java.io.Serializable;
+import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -30,9 +32,15 @@ import java.util.UUID;
 
 public class QuestionActivity extends AppCompatActivity {
 
+    private static final String TAG = "QuestionActivity";
+    private static final int PREFETCH_QUESTION_COUNT = 3;
+
     private QuestionContext context;
+    private QuestionQueue questionQueue;
     private Question question;
     private List<Meaning> wrongAnswers = new ArrayList<>();
+    private boolean isWrongAnswer;
+    private long submitTime;
 
     private TextView message;
     private TextView main;
@@ -65,10 +73,17 @@ public class QuestionActivity extends AppCompatActivity {
         vocabulary.setVocabulary(wrongAnswers);
 
         try {
-            vocabulary.saveVocabulary();
-
-            Toast.makeText(getApplicationContext(),
-                    R.string.question_activity_success_save_vocabulary_for_wrong_answers, Toast.LENGTH_SHORT).show();
+            vocabulary.saveVocabulary().whenCompleteAsync((result, e) -> {
+                if (e == null) {
+                    Toast.makeText(getApplicationContext(),
+                            R.string.question_activity_success_save_vocabulary_for_wrong_answers, Toast.LENGTH_SHORT).show();
+                } else {
+                    Toast.makeText(getApplicationContext(),
+                            R.string.question_activity_error_save_vocabulary_for_wrong_answers, Toast.LENGTH_LONG).show();
+
+                    e.printStackTrace();
+                }
+            }, getMainExecutor());
 
             return vocabulary;
         } catch (final Exception e) {
@@ -107,6 +122,12 @@ public class QuestionActivity extends AppCompatActivity {
         context.setDisplayPronunciation(intent.getBooleanExtra("displayPronunciation", false));
         context.setDisplayExample(intent.getBooleanExtra("displayExample", false));
         context.setAvoidDuplication(intent.getBooleanExtra("disableDuplication", false));
+        context.setChoiceCount(intent.getIntExtra("choiceCount", QuestionContext.MAX_CHOICE_COUNT));
+
+        final String reviewPath = intent.getStringExtra("reviewPath");
+        if (reviewPath != null) {
+            context.setSpacedRepetition(Paths.get(reviewPath));
+        }
 
         if (intent.getBooleanExtra("wordToMeaning", false)) {
             context.addUsableType(QuestionType.WordToMeaning.multipleChoice());
@@ -127,7 +148,8 @@ public class QuestionActivity extends AppCompatActivity {
 
     private boolean createQuestion() {
         try {
-            question = context.createQuestion();
+            question = questionQueue.poll();
+            isWrongAnswer = false;
 
             return true;
         } catch (final Exception e) {
@@ -139,37 +161,45 @@ public class QuestionActivity extends AppCompatActivity {
         }
     }
 
-    private void updatedQuestion(boolean restoreMode) {
-        final QuestionType type = question.getType();
+    private void reviewQuestion(boolean isCorrect) {
+        questionQueue.review(question, isCorrect).whenCompleteAsync((result, e) -> {
+            if (e != null) {
+                Toast.makeText(getApplicationContext(),
+                        R.string.question_activity_error_load_reviews, Toast.LENGTH_LONG).show();
 
-        message.setText(type.getMessage(this));
-        main.setText(type.getMainComponent(question.getAnswer()));
+                e.printStackTrace();
+            }
+        }, getMainExecutor());
+    }
 
-        final StringBuilder hintTextBuilder = new StringBuilder();
+    private void saveReviews() {
+        questionQueue.saveReviews().whenCompleteAsync((result, e) -> {
+            if (e != null) {
+                Toast.makeText(getApplicationContext(),
+                        R.string.question_activity_error_save_reviews, Toast.LENGTH_LONG).show();
 
-        if (context.shouldDisplayPronunciation() && type.shouldDisplayPronunciationForMainComponent(question.getAnswer())) {
-            hintTextBuilder.append(String.format(
-                    getString(R.string.question_activity_hint_pronunciation), question.getAnswer().getPronunciation()));
-        }
-
-        if (context.shouldDisplayExample() && type.shouldDisplayExampleForMainComponent(question.getAnswer())) {
-            if (hintTextBuilder.length() > 0) {
-                hintTextBuilder.append("<br>");
+                e.printStackTrace();
             }
+        }, getMainExecutor());
+    }
 
-            hintTextBuilder.append(String.format(
-                    getString(R.string.question_activity_hint_example), question.getAnswer().getExample()));
-        }
+    private void updatedQuestion(boolean restoreMode) {
+        final QuestionType type = question.getType();
 
-        hint.setText(HtmlCompat.fromHtml(hintTextBuilder.toString(), HtmlCompat.FROM_HTML_MODE_LEGACY));
+        message.setText(type.getMessage(this));
+        main.setText(type.getMainComponent(question.getAnswer()));
+        hint.setText(QuestionTexts.getHint(this, context, question));
 
         final FragmentManager manager = getSupportFragmentManager();
+        final boolean isMultipleChoice = type.getAnswerType() == QuestionType.AnswerType.MULTIPLE_CHOICE;
 
         if (restoreMode) {
             answerFragment = (AnswerFragment)manager.findFragmentByTag("answerFragment");
             answerFragment.restoreQuestion(context, question);
+        } else if (answerFragment != null && answerFragment instanceof MultipleChoiceFragment == isMultipleChoice) {
+            answerFragment.changeQuestion(context, question);
         } else {
-            if (question.getType().getAnswerType() == QuestionType.AnswerType.MULTIPLE_CHOICE) {
+            if (isMultipleChoice) {
                 answerFragment = new MultipleChoiceFragment(context, question);
             } else {
                 answerFragment = new ShortAnswerFragment(context, question);
@@ -182,9 +212,24 @@ public class QuestionActivity extends AppCompatActivity {
         }
     }
 
+    private void logQuestionLatency() {
+        if (!BuildConfig.DEBUG || submitTime == 0) return;
+
+        final long startTime = submitTime;
+        final long waitTime = questionQueue.getLastWaitDuration().toMillis();
+
+        submitTime = 0;
+
+        main.post(() -> {
+            Log.d(TAG, "Next question took " + (System.nanoTime() - startTime) / 1000000 + " ms" +
+                    " (waited " + waitTime + " ms for generation)");
+        });
+    }
+
     private boolean createQuestionAndUpdate() {
         if (createQuestion()) {
             updatedQuestion(false);
+            logQuestionLatency();
 
             return true;
         } else return false;
@@ -205,6 +250,10 @@ public class QuestionActivity extends AppCompatActivity {
 
         createContext();
 
+        questionQueue = new QuestionQueue(context,
+                question -> QuestionTexts.prepare(this, context, question), PREFETCH_QUESTION_COUNT);
+        questionQueue.prefetch();
+
         message = findViewById(R.id.message);
         main = findViewById(R.id.main);
         hint = findViewById(R.id.hint);
@@ -216,6 +265,7 @@ public class QuestionActivity extends AppCompatActivity {
         } else {
             question = (Question)savedInstanceState.getSerializable("question");
             wrongAnswers = (List<Meaning>)savedInstanceState.getSerializable("wrongAnswers");
+            isWrongAnswer = savedInstanceState.getBoolean("isWrongAnswer");
 
             updatedQuestion(true);
         }
@@ -227,6 +277,21 @@ public class QuestionActivity extends AppCompatActivity {
 
         savedInstanceState.putSerializable("question", question);
         savedInstanceState.putSerializable("wrongAnswers", (Serializable)wrongAnswers);
+        savedInstanceState.putBoolean("isWrongAnswer", isWrongAnswer);
+    }
+
+    @Override
+    public void onPause() {
+        super.onPause();
+
+        saveReviews();
+    }
+
+    @Override
+    public void onDestroy() {
+        super.onDestroy();
+
+        questionQueue.close();
     }
 
     public void onStopClick(View view) {
@@ -234,7 +299,10 @@ public class QuestionActivity extends AppCompatActivity {
     }
 
     public void onSkipClick(View view) {
+        submitTime = System.nanoTime();
+
         wrongAnswers.add(question.getAnswer());
+        reviewQuestion(false);
 
         createQuestionAndUpdate();
     }
@@ -247,6 +315,7 @@ public class QuestionActivity extends AppCompatActivity {
             return;
         } else if (!answerFragment.isCorrectAnswer()) {
             wrongAnswers.add(question.getAnswer());
+            isWrongAnswer = true;
 
             Toast.makeText(getApplicationContext(),
                     R.string.question_activity_error_wrong_answer, Toast.LENGTH_SHORT).show();
@@ -254,6 +323,10 @@ public class QuestionActivity extends AppCompatActivity {
             return;
         }
 
+        submitTime = System.nanoTime();
+
+        reviewQuestion(!isWrongAnswer);
+
         createQuestionAndUpdate();
     }
 }
\ No newline at end of file
@@ -0,0 +1,121 @@
+package com.staticom.wordreminder;
+
+import android.content.Context;
+
+import androidx.core.text.HtmlCompat;
+
+import com.staticom.wordreminder.core.Meaning;
+import com.staticom.wordreminder.core.Question;
+import com.staticom.wordreminder.core.QuestionContext;
+import com.staticom.wordreminder.core.QuestionType;
+
+public class QuestionTexts {
+
+    private static CharSequence buildHint(Context context, QuestionContext questionContext, Question question) {
+        final QuestionType type = question.getType();
+        final StringBuilder hintTextBuilder = new StringBuilder();
+
+        if (questionContext.shouldDisplayPronunciation() && type.shouldDisplayPronunciationForMainComponent(question.getAnswer())) {
+            hintTextBuilder.append(String.format(
+                    context.getString(R.string.question_activity_hint_pronunciation), question.getAnswer().getPronunciation()));
+        }
+
+        if (questionContext.shouldDisplayExample() && type.shouldDisplayExampleForMainComponent(question.getAnswer())) {
+            if (hintTextBuilder.length() > 0) {
+                hintTextBuilder.append("<br>");
+            }
+
+            hintTextBuilder.append(String.format(
+                    context.getString(R.string.question_activity_hint_example), question.getAnswer().getExample()));
+        }
+
+        return HtmlCompat.fromHtml(hintTextBuilder.toString(), HtmlCompat.FROM_HTML_MODE_LEGACY);
+    }
+
+    private static CharSequence buildAnswerHint(Context context, QuestionContext questionContext, Question question) {
+        final QuestionType type = question.getType();
+        final Meaning answer = question.getAnswer();
+
+        final StringBuilder hintTextBuilder = new StringBuilder();
+
+        if (questionContext.shouldDisplayPronunciation() && type.shouldDisplayPronunciationForAnswerComponent(answer)) {
+            hintTextBuilder.append(String.format(
+                    context.getString(R.string.question_activity_hint_pronunciation), answer.getPronunciation()));
+        }
+
+        if (questionContext.shouldDisplayExample() && type.shouldDisplayExampleForAnswerComponent(answer)) {
+            if (hintTextBuilder.length() > 0) {
+                hintTextBuilder.append("<br>");
+            }
+
+            hintTextBuilder.append(String.format(
+                    context.getString(R.string.question_activity_hint_example), answer.getExample()));
+        }
+
+        return HtmlCompat.fromHtml(hintTextBuilder.toString(), HtmlCompat.FROM_HTML_MODE_LEGACY);
+    }
+
+    private static CharSequence[] buildChoiceTexts(Context context, QuestionContext questionContext, Question question) {
+        final QuestionType type = question.getType();
+        final CharSequence[] choiceTexts = new CharSequence[question.getChoiceCount()];
+
+        for (int i = 0; i < choiceTexts.length; ++i) {
+            final Meaning choice = question.getChoice(i);
+            final StringBuilder textBuilder = new StringBuilder();
+
+            textBuilder.append(type.getAnswerComponent(choice));
+
+            if (questionContext.shouldDisplayPronunciation() && type.shouldDisplayPronunciationForAnswerComponent(choice)) {
+                textBuilder.append("<br><small>");
+                textBuilder.append(String.format(
+                        context.getString(R.string.question_activity_hint_pronunciation), choice.getPronunciation()));
+                textBuilder.append("</small>");
+            }
+
+            if (questionContext.shouldDisplayExample() && type.shouldDisplayExampleForAnswerComponent(choice)) {
+                textBuilder.append("<br><small>");
+                textBuilder.append(String.format(
+                        context.getString(R.string.question_activity_hint_example), choice.getExample()));
+                textBuilder.append("</small>");
+            }
+
+            choiceTexts[i] = HtmlCompat.fromHtml(textBuilder.toString(), HtmlCompat.FROM_HTML_MODE_LEGACY);
+        }
+
+        return choiceTexts;
+    }
+
+    public static void prepare(Context context, QuestionContext questionContext, Question question) {
+        question.setHint(buildHint(context, questionContext, question));
+
+        if (question.getType().getAnswerType() == QuestionType.AnswerType.MULTIPLE_CHOICE) {
+            question.setChoiceTexts(buildChoiceTexts(context, questionContext, question));
+        } else {
+            question.setAnswerHint(buildAnswerHint(context, questionContext, question));
+        }
+    }
+
+    public static CharSequence getHint(Context context, QuestionContext questionContext, Question question) {
+        if (question.getHint() == null) {
+            question.setHint(buildHint(context, questionContext, question));
+        }
+
+        return question.getHint();
+    }
+
+    public static CharSequence getAnswerHint(Context context, QuestionContext questionContext, Question question) {
+        if (question.getAnswerHint() == null) {
+            question.setAnswerHint(buildAnswerHint(context, questionContext, question));
+        }
+
+        return question.getAnswerHint();
+    }
+
+    public static CharSequence getChoiceText(Context context, QuestionContext questionContext, Question question, int index) {
+        if (question.getChoiceTexts() == null) {
+            question.setChoiceTexts(buildChoiceTexts(context, questionContext, question));
+        }
+
+        return question.getChoiceTexts()[index];
+    }
+}
@@ -9,7 +9,6 @@ import android.widget.TextView;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
-import androidx.core.text.HtmlCompat;
 import androidx.fragment.app.Fragment;
 
 import com.staticom.wordreminder.core.Meaning;
@@ -18,6 +17,7 @@ import com.staticom.wordreminder.core.QuestionContext;
 import com.staticom.wordreminder.core.QuestionType;
 import com.staticom.wordreminder.core.Vocabulary;
 import com.staticom.wordreminder.core.Word;
+import com.staticom.wordreminder.utility.TextNormalizer;
 
 public class ShortAnswerFragment extends Fragment implements AnswerFragment {
 
@@ -38,26 +38,7 @@ public class ShortAnswerFragment extends Fragment implements AnswerFragment {
     private void updateHintText() {
         if (question == null) return;
 
-        final QuestionType type = question.getType();
-        final Meaning answer = question.getAnswer();
-
-        final StringBuilder hintTextBuilder = new StringBuilder();
-
-        if (context.shouldDisplayPronunciation() && type.shouldDisplayPronunciationForAnswerComponent(answer)) {
-            hintTextBuilder.append(String.format(
-                    getString(R.string.question_activity_hint_pronunciation), answer.getPronunciation()));
-        }
-
-        if (context.shouldDisplayExample() && type.shouldDisplayExampleForAnswerComponent(answer)) {
-            if (hintTextBuilder.length() > 0) {
-                hintTextBuilder.append("<br>");
-            }
-
-            hintTextBuilder.append(String.format(
-                    getString(R.string.question_activity_hint_example), answer.getExample()));
-        }
-
-        hint.setText(HtmlCompat.fromHtml(hintTextBuilder.toString(), HtmlCompat.FROM_HTML_MODE_LEGACY));
+        hint.setText(QuestionTexts.getAnswerHint(requireContext(), context, question));
     }
 
     @Nullable
@@ -81,6 +62,14 @@ public class ShortAnswerFragment extends Fragment implements AnswerFragment {
         this.question = question;
     }
 
+    @Override
+    public void changeQuestion(QuestionContext context, Question question) {
+        restoreQuestion(context, question);
+
+        answer.setText("");
+        updateHintText();
+    }
+
     @Override
     public boolean isEmptyAnswer() {
         return answer.getText().toString().trim().isEmpty();
@@ -89,19 +78,19 @@ public class ShortAnswerFragment extends Fragment implements AnswerFragment {
     @Override
     public boolean isCorrectAnswer() {
         final QuestionType type = question.getType();
-        final String answer = this.answer.getText().toString().toLowerCase().trim();
+        final String answer = TextNormalizer.normalize(this.answer.getText().toString().trim());
 
-        if (type.getAnswerComponent(question.getAnswer()).toLowerCase().equals(answer)) return true;
+        if (type.getNormalizedAnswerComponent(question.getAnswer()).equals(answer)) return true;
 
         if (type.getType() == QuestionType.Type.WORD_TO_MEANING) {
             for (final Meaning meaning : question.getAnswer().getWord().getMeanings()) {
-                if (type.getAnswerComponent(meaning).toLowerCase().equals(answer)) return true;
+                if (type.getNormalizedAnswerComponent(meaning).equals(answer)) return true;
             }
         } else if (type.getType() == QuestionType.Type.MEANING_TO_WORD) {
             final Vocabulary vocabulary = question.getVocabulary();
             for (final Word word : vocabulary.getWords()) {
                 for (final Meaning meaning : word.getMeanings()) {
-                    if (type.getAnswerComponent(meaning).toLowerCase().equals(answer)) return true;
+                    if (type.getNormalizedAnswerComponent(meaning).equals(answer)) return true;
                 }
             }
         }
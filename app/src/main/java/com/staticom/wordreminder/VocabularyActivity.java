@@ -22,6 +22,7 @@ import androidx.fragment.app.FragmentTransaction;
 
 import com.staticom.wordreminder.adapter.CheckableAdapter;
 import com.staticom.wordreminder.core.Meaning;
+import com.staticom.wordreminder.core.SearchSession;
 import com.staticom.wordreminder.core.Tag;
 import com.staticom.wordreminder.core.Vocabulary;
 import com.staticom.wordreminder.core.VocabularyMetadata;
@@ -31,6 +32,7 @@ import com.staticom.wordreminder.utility.CustomDialog;
 import com.staticom.wordreminder.utility.TagsSpinner;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public class VocabularyActivity extends AppCompatActivity {
 
@@ -40,22 +42,35 @@ public class VocabularyActivity extends AppCompatActivity {
 
     private VocabularyFragment vocabularyFragment;
     private VocabularyMetadata originalVocabulary;
+    private SearchSession searchSession;
+    private CompletableFuture<Void> pendingSave;
 
     private ActivityResultLauncher<Intent> manageRelationsResult;
     private ActivityResultLauncher<Intent> tagManagerResult;
 
     private boolean save() {
         try {
-            originalVocabulary.saveVocabulary();
+            pendingSave = originalVocabulary.saveVocabulary().whenCompleteAsync((result, e) -> {
+                if (e == null) {
+                    Toast.makeText(getApplicationContext(),
+                            R.string.vocabulary_activity_success_save_vocabulary, Toast.LENGTH_SHORT).show();
+
+                    isSaved = true;
+                } else {
+                    Toast.makeText(getApplicationContext(),
+                            R.string.vocabulary_activity_error_save_vocabulary, Toast.LENGTH_LONG).show();
+
+                    originalVocabulary.setShouldSave(true);
+                    edited();
+
+                    e.printStackTrace();
+                }
+            }, getMainExecutor());
 
             setTitle(R.string.vocabulary_activity_title);
 
             save.setVisible(false);
             isEdited = false;
-            isSaved = true;
-
-            Toast.makeText(getApplicationContext(),
-                    R.string.vocabulary_activity_success_save_vocabulary, Toast.LENGTH_SHORT).show();
 
             return true;
         } catch (final Exception e) {
@@ -68,6 +83,16 @@ public class VocabularyActivity extends AppCompatActivity {
     }
 
     private void setResultAndFinish() {
+        if (pendingSave != null && !pendingSave.isDone()) {
+            pendingSave.whenCompleteAsync((result, e) -> {
+                if (e == null && !isFinishing()) {
+                    setResultAndFinish();
+                }
+            }, getMainExecutor());
+
+            return;
+        }
+
         if (isSaved) {
             if (isEdited) {
                 try {
@@ -122,6 +147,8 @@ public class VocabularyActivity extends AppCompatActivity {
         }
 
         isEdited = true;
+
+        searchSession.cancel();
     }
 
     private void updateVocabulary(ActivityResult result) {
@@ -133,7 +160,7 @@ public class VocabularyActivity extends AppCompatActivity {
 
         originalVocabulary.setVocabulary(newVocabulary);
 
-        final VocabularyMetadata displayedVocabulary = vocabularyFragment.getVocabulary();
+        final VocabularyMetadata displayedVocabulary = vocabularyFragment.materializeSearchResult();
         if (displayedVocabulary != originalVocabulary) {
             final Vocabulary newDisplayedVocabulary = new Vocabulary();
 
@@ -174,6 +201,8 @@ public class VocabularyActivity extends AppCompatActivity {
         setContentView(R.layout.activity_vocabulary);
         setTitle(R.string.vocabulary_activity_title);
 
+        searchSession = new SearchSession(getMainExecutor());
+
         getOnBackPressedDispatcher().addCallback(this, new OnBackPressedCallback(true) {
             @Override
             public void handleOnBackPressed() {
@@ -228,6 +257,13 @@ public class VocabularyActivity extends AppCompatActivity {
         tagManagerResult = registerForActivityResult(new ActivityResultContracts.StartActivityForResult(), this::updateVocabulary);
     }
 
+    @Override
+    public void onDestroy() {
+        super.onDestroy();
+
+        searchSession.close();
+    }
+
     @Override
     public void onSaveInstanceState(Bundle savedInstanceState) {
         super.onSaveInstanceState(savedInstanceState);
@@ -237,8 +273,19 @@ public class VocabularyActivity extends AppCompatActivity {
     }
 
     private void searchWord(String query) {
-        vocabularyFragment.setWordsTextFormat(getString(R.string.vocabulary_activity_words_search_result));
-        vocabularyFragment.setVocabulary(new VocabularyMetadata(query, originalVocabulary.getVocabulary().search(query)));
+        searchSession.search(originalVocabulary.getVocabulary(), query, (searchedQuery, searchResult) -> {
+            vocabularyFragment.setWordsTextFormat(getString(R.string.vocabulary_activity_words_search_result));
+            vocabularyFragment.setSearchResult(searchedQuery, searchResult);
+        });
+    }
+
+    private void showOriginalVocabulary() {
+        searchSession.cancel();
+
+        if (vocabularyFragment.isDisplaying(originalVocabulary)) return;
+
+        vocabularyFragment.setWordsTextFormat(getString(R.string.vocabulary_activity_words));
+        vocabularyFragment.setVocabulary(originalVocabulary);
     }
 
     @Override
@@ -268,12 +315,19 @@ public class VocabularyActivity extends AppCompatActivity {
 
             @Override
             public boolean onQueryTextChange(String newText) {
-                return false;
+                final String query = newText.trim();
+
+                if (query.isEmpty()) {
+                    showOriginalVocabulary();
+                } else {
+                    searchWord(query);
+                }
+
+                return true;
             }
         });
         searchWord.setOnCloseListener(() -> {
-            vocabularyFragment.setWordsTextFormat(getString(R.string.vocabulary_activity_words));
-            vocabularyFragment.setVocabulary(originalVocabulary);
+            showOriginalVocabulary();
 
             return true;
         });
@@ -288,7 +342,7 @@ public class VocabularyActivity extends AppCompatActivity {
                 fromDeleteMeaning ? R.string.vocabulary_activity_ask_delete_last_meaning : R.string.vocabulary_activity_ask_delete_word);
 
         dialog.setPositiveButton(R.string.delete, true, () -> {
-            final VocabularyMetadata displayedVocabulary = vocabularyFragment.getVocabulary();
+            final VocabularyMetadata displayedVocabulary = vocabularyFragment.materializeSearchResult();
             final Word selectedWord = vocabularyFragment.getSelectedWord();
             final int selectedIndex = vocabularyFragment.getSelectedWordIndex();
 
@@ -627,7 +681,7 @@ public class VocabularyActivity extends AppCompatActivity {
                 originalVocabulary.getVocabulary().addWord(targetWord);
             }
 
-            final VocabularyMetadata displayedVocabulary = vocabularyFragment.getVocabulary();
+            final VocabularyMetadata displayedVocabulary = vocabularyFragment.materializeSearchResult();
             final boolean displayed = displayedVocabulary.getVocabulary().containsWord(targetWord);
 
             if (!displayed) {
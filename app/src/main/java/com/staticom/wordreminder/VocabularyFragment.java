@@ -20,6 +20,7 @@ import com.staticom.wordreminder.adapter.MeaningsAdapter;
 import com.staticom.wordreminder.adapter.SelectableAdapter;
 import com.staticom.wordreminder.adapter.WordsAdapter;
 import com.staticom.wordreminder.core.Meaning;
+import com.staticom.wordreminder.core.SearchResult;
 import com.staticom.wordreminder.core.VocabularyMetadata;
 import com.staticom.wordreminder.core.Word;
 import com.staticom.wordreminder.utility.RecyclerViewEmptyObserver;
@@ -42,14 +43,14 @@ public class VocabularyFragment extends Fragment {
 
         wordsText.setText(HtmlCompat.fromHtml(
                 String.format(wordsTextFormat,
-                        wordsAdapter.getVocabulary().getName(),
-                        wordsAdapter.getVocabulary().getVocabulary().getWords().size()),
+                        wordsAdapter.getName(),
+                        wordsAdapter.getItemCount()),
                 HtmlCompat.FROM_HTML_MODE_LEGACY));
 
         if (wordsAdapter.getSelectedIndex() != -1) {
             meaningsText.setText(HtmlCompat.fromHtml(
                     String.format(meaningsTextFormat,
-                            wordsAdapter.getVocabulary().getName(),
+                            wordsAdapter.getName(),
                             getSelectedWord().getWord(),
                             getSelectedWord().getMeanings().size()),
                     HtmlCompat.FROM_HTML_MODE_LEGACY));
@@ -112,6 +113,10 @@ public class VocabularyFragment extends Fragment {
         return wordsAdapter.getVocabulary();
     }
 
+    public VocabularyMetadata materializeSearchResult() {
+        return wordsAdapter.materializeSearchResult();
+    }
+
     public void setVocabulary(VocabularyMetadata vocabulary) {
         Word selectedWord = null;
 
@@ -140,6 +145,41 @@ public class VocabularyFragment extends Fragment {
         updateCount();
     }
 
+    public boolean isDisplaying(VocabularyMetadata vocabulary) {
+        return wordsAdapter.isDisplaying(vocabulary);
+    }
+
+    public void setSearchResult(String name, SearchResult searchResult) {
+        setSearchResult(name, searchResult, null);
+    }
+
+    public void setSearchResult(String name, SearchResult searchResult, Runnable onUpdated) {
+        final Word selectedWord = getSelectedWordIndex() != -1 ? getSelectedWord() : null;
+
+        wordsAdapter.setSearchResult(name, searchResult, () -> {
+            if (selectedWord != null) {
+                final int selectedWordNewIndex = searchResult.indexOf(selectedWord);
+
+                if (selectedWordNewIndex != -1) {
+                    final int selectedMeaningIndex = getSelectedMeaningIndex();
+
+                    wordsAdapter.setSelectedIndex(selectedWordNewIndex);
+                    meaningsAdapter.setSelectedIndex(selectedMeaningIndex);
+                } else {
+                    wordsAdapter.setSelectedIndex(-1);
+
+                    meaningsAdapter.setWord(null);
+                }
+            }
+
+            updateCount();
+
+            if (onUpdated != null) {
+                onUpdated.run();
+            }
+        });
+    }
+
     public void onRestoreInstanceState(Bundle savedInstanceState) {
         if (savedInstanceState == null) return;
 
@@ -164,7 +204,7 @@ public class VocabularyFragment extends Fragment {
     public void onSaveInstanceState(Bundle savedInstanceState) {
         super.onSaveInstanceState(savedInstanceState);
 
-        savedInstanceState.putSerializable("vocabulary", getVocabulary().serialize());
+        savedInstanceState.putSerializable("vocabulary", materializeSearchResult().serialize());
 
         savedInstanceState.putString("wordsTextFormat", wordsTextFormat);
         savedInstanceState.putString("defaultMeaningsText", defaultMeaningsText);
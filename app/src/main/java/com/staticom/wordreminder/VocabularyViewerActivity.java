@@ -80,7 +80,11 @@ public class VocabularyViewerActivity extends AppCompatActivity {
 
     private void searchWord(String query) {
         vocabularyFragment.setWordsTextFormat(getString(R.string.vocabulary_viewer_activity_words_search_result));
-        vocabularyFragment.setVocabulary(new VocabularyMetadata(query, vocabulary.getVocabulary().search(query)));
+        vocabularyFragment.setSearchResult(query, vocabulary.getVocabulary().searchIndices(query), () -> {
+            if (isSelectMode && vocabularyFragment.getSelectedWordIndex() == -1) {
+                menu.findItem(R.id.select).setVisible(false);
+            }
+        });
     }
 
     @Override
@@ -102,10 +106,6 @@ public class VocabularyViewerActivity extends AppCompatActivity {
             public boolean onQueryTextSubmit(String query) {
                 searchWord(query.trim());
 
-                if (isSelectMode && vocabularyFragment.getSelectedWordIndex() == -1) {
-                    menu.findItem(R.id.select).setVisible(false);
-                }
-
                 return true;
             }
 
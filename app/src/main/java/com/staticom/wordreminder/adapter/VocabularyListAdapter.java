@@ -10,6 +10,12 @@ import android.widget.TextView;
 import com.staticom.wordreminder.R;
 import com.staticom.wordreminder.core.VocabularyList;
 import com.staticom.wordreminder.core.VocabularyMetadata;
+import com.staticom.wordreminder.core.Word;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 public class VocabularyListAdapter extends SelectableAdapter {
 
@@ -63,7 +69,10 @@ public class VocabularyListAdapter extends SelectableAdapter {
         }
     }
 
+    private static final int MAX_SEARCHED_WORD_COUNT = 5;
+
     private final VocabularyList vocabularyList;
+    private Map<VocabularyMetadata, List<Word>> searchResults;
 
     private OnOpenButtonClickListener onOpenButtonClickListener;
 
@@ -77,6 +86,39 @@ public class VocabularyListAdapter extends SelectableAdapter {
         this.onOpenButtonClickListener = onOpenButtonClickListener;
     }
 
+    public void startSearch() {
+        if (searchResults == null) {
+            searchResults = new HashMap<>();
+        } else if (!searchResults.isEmpty()) {
+            searchResults.clear();
+
+            notifyDataSetChanged();
+        }
+    }
+
+    public void setSearchResult(VocabularyMetadata vocabulary, List<Word> words) {
+        if (searchResults == null) return;
+
+        searchResults.put(vocabulary, words);
+
+        final int index = vocabularyList.getVocabularyList().indexOf(vocabulary);
+        if (index != -1) {
+            notifyItemChanged(index);
+        }
+    }
+
+    public void setSearchFailed(VocabularyMetadata vocabulary) {
+        setSearchResult(vocabulary, null);
+    }
+
+    public void clearSearchResults() {
+        if (searchResults == null) return;
+
+        searchResults = null;
+
+        notifyDataSetChanged();
+    }
+
     @Override
     public int getItemCount() {
         return vocabularyList.getVocabularyList().size();
@@ -94,7 +136,24 @@ public class VocabularyListAdapter extends SelectableAdapter {
         final ViewHolder myViewHolder = (ViewHolder)viewHolder;
         final VocabularyMetadata vocabulary = vocabularyList.getVocabulary(position);
 
+        final List<Word> words = searchResults != null ? searchResults.get(vocabulary) : null;
+
         myViewHolder.name.setText(vocabulary.getName());
-        myViewHolder.time.setText(vocabulary.getTime().toString());
+
+        if (searchResults == null || !searchResults.containsKey(vocabulary)) {
+            myViewHolder.time.setText(vocabulary.getTime().toString());
+        } else if (words == null) {
+            myViewHolder.time.setText(R.string.vocabulary_list_adapter_failed_search_result);
+        } else if (words.isEmpty()) {
+            myViewHolder.time.setText(R.string.vocabulary_list_adapter_empty_search_result);
+        } else {
+            final String searchedWords = words.stream()
+                    .limit(MAX_SEARCHED_WORD_COUNT)
+                    .map(Word::getWord)
+                    .collect(Collectors.joining(", "));
+
+            myViewHolder.time.setText(myViewHolder.itemView.getContext().getString(
+                    R.string.vocabulary_list_adapter_search_result, words.size(), searchedWords));
+        }
     }
 }
\ No newline at end of file
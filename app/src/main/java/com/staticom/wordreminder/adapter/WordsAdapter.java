@@ -1,14 +1,20 @@
 package com.staticom.wordreminder.adapter;
 
+import android.os.Handler;
+import android.os.Looper;
 import android.view.View;
 import android.widget.TextView;
 
 import androidx.core.text.HtmlCompat;
+import androidx.recyclerview.widget.DiffUtil;
 
 import com.staticom.wordreminder.R;
+import com.staticom.wordreminder.core.SearchResult;
 import com.staticom.wordreminder.core.VocabularyMetadata;
 import com.staticom.wordreminder.core.Word;
 
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
 public class WordsAdapter extends SelectableAdapter {
@@ -26,13 +32,52 @@ public class WordsAdapter extends SelectableAdapter {
         }
 
         public void updateOptionalViewsVisibility() {
-            final Word word = vocabulary.getVocabulary().getWord(getAdapterPosition());
+            final Word word = getWord(getAdapterPosition());
 
             relations.setVisibility(word.hasRelations() ? View.VISIBLE : View.GONE);
         }
     }
 
+    private static class SearchResultCallback extends DiffUtil.Callback {
+
+        private final SearchResult oldSearchResult;
+        private final SearchResult newSearchResult;
+
+        public SearchResultCallback(SearchResult oldSearchResult, SearchResult newSearchResult) {
+            this.oldSearchResult = oldSearchResult;
+            this.newSearchResult = newSearchResult;
+        }
+
+        @Override
+        public int getOldListSize() {
+            return oldSearchResult.size();
+        }
+
+        @Override
+        public int getNewListSize() {
+            return newSearchResult.size();
+        }
+
+        @Override
+        public boolean areItemsTheSame(int oldItemPosition, int newItemPosition) {
+            return oldSearchResult.isSameWord(oldItemPosition, newSearchResult, newItemPosition);
+        }
+
+        @Override
+        public boolean areContentsTheSame(int oldItemPosition, int newItemPosition) {
+            return true;
+        }
+    }
+
+    private static final int MAX_DIFF_SIZE = 10000;
+    private static final Executor diffExecutor = Executors.newSingleThreadExecutor();
+
+    private final Handler handler = new Handler(Looper.getMainLooper());
+
     private VocabularyMetadata vocabulary;
+    private String searchResultName;
+    private SearchResult searchResult;
+    private int searchResultGeneration;
 
     public WordsAdapter(VocabularyMetadata vocabulary) {
         super(R.layout.item_word);
@@ -40,19 +85,80 @@ public class WordsAdapter extends SelectableAdapter {
         this.vocabulary = vocabulary;
     }
 
+    public String getName() {
+        return searchResult != null ? searchResultName : vocabulary.getName();
+    }
+
     public VocabularyMetadata getVocabulary() {
         return vocabulary;
     }
 
+    public VocabularyMetadata materializeSearchResult() {
+        if (searchResult != null) {
+            vocabulary = new VocabularyMetadata(searchResultName, searchResult.toVocabulary());
+            searchResult = null;
+
+            ++searchResultGeneration;
+        }
+
+        return vocabulary;
+    }
+
+    public boolean isDisplaying(VocabularyMetadata vocabulary) {
+        return searchResult == null && this.vocabulary == vocabulary;
+    }
+
     public void setVocabulary(VocabularyMetadata vocabulary) {
         this.vocabulary = vocabulary;
+        searchResult = null;
+
+        ++searchResultGeneration;
 
         notifyDataSetChanged();
     }
 
+    public SearchResult getSearchResult() {
+        return searchResult;
+    }
+
+    public void setSearchResult(String name, SearchResult newSearchResult, Runnable onUpdated) {
+        final SearchResult oldSearchResult = searchResult;
+        final int generation = ++searchResultGeneration;
+
+        if (oldSearchResult == null || oldSearchResult.size() + newSearchResult.size() > MAX_DIFF_SIZE) {
+            searchResultName = name;
+            searchResult = newSearchResult;
+
+            notifyDataSetChanged();
+            onUpdated.run();
+            return;
+        }
+
+        diffExecutor.execute(() -> {
+            final DiffUtil.DiffResult diffResult =
+                    DiffUtil.calculateDiff(new SearchResultCallback(oldSearchResult, newSearchResult), false);
+
+            handler.post(() -> {
+                if (generation != searchResultGeneration) return;
+
+                searchResultName = name;
+                searchResult = newSearchResult;
+
+                diffResult.dispatchUpdatesTo(this);
+                onUpdated.run();
+            });
+        });
+    }
+
+    private Word getWord(int position) {
+        if (searchResult != null) return searchResult.getWord(position);
+        else return vocabulary.getVocabulary().getWord(position);
+    }
+
     @Override
     public int getItemCount() {
-        return vocabulary != null ? vocabulary.getVocabulary().getWords().size() : 0;
+        if (searchResult != null) return searchResult.size();
+        else return vocabulary != null ? vocabulary.getVocabulary().getWords().size() : 0;
     }
 
     @Override
@@ -65,7 +171,7 @@ public class WordsAdapter extends SelectableAdapter {
         super.onBindViewHolder(viewHolder, position);
 
         final ViewHolder myViewHolder = (ViewHolder)viewHolder;
-        final Word word = vocabulary.getVocabulary().getWord(position);
+        final Word word = getWord(position);
 
         myViewHolder.word.setText(word.getWord());
         myViewHolder.relations.setText(HtmlCompat.fromHtml(
@@ -81,6 +187,6 @@ public class WordsAdapter extends SelectableAdapter {
     }
 
     public Word getSelectedWord() {
-        return vocabulary.getVocabulary().getWord(getSelectedIndex());
+        return getWord(getSelectedIndex());
     }
 }
\ No newline at end of file
@@ -0,0 +1,99 @@
+package com.staticom.wordreminder.core;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+class DistractorGenerator {
+
+    private final MeaningTable meaningTable;
+    private final int[] meaningTextIds;
+    private final int[] meaningOrder;
+
+    private final int[] excludedWords;
+    private final int[] excludedTexts;
+    private int excludedTextCount;
+    private int exclusion;
+
+    DistractorGenerator(MeaningTable meaningTable) {
+        this.meaningTable = meaningTable;
+
+        final Map<String, Integer> textIds = new HashMap<>();
+
+        meaningTextIds = new int[meaningTable.size()];
+        meaningOrder = new int[meaningTable.size()];
+
+        for (int i = 0; i < meaningTable.size(); ++i) {
+            final String text = meaningTable.getMeaning(i).getNormalizedMeaning();
+            Integer textId = textIds.get(text);
+
+            if (textId == null) {
+                textId = textIds.size();
+                textIds.put(text, textId);
+            }
+
+            meaningTextIds[i] = textId;
+            meaningOrder[i] = i;
+        }
+
+        excludedWords = new int[meaningTable.getWordCount()];
+        excludedTexts = new int[textIds.size()];
+    }
+
+    private boolean isExcluded(int meaningIndex) {
+        return excludedWords[meaningTable.getWordIndex(meaningIndex)] == exclusion ||
+                excludedTexts[meaningTextIds[meaningIndex]] == exclusion;
+    }
+
+    private void exclude(int meaningIndex) {
+        final int wordIndex = meaningTable.getWordIndex(meaningIndex);
+        final int end = meaningTable.getFirstMeaningIndex(wordIndex + 1);
+
+        excludedWords[wordIndex] = exclusion;
+
+        for (int i = meaningTable.getFirstMeaningIndex(wordIndex); i < end; ++i) {
+            if (excludedTexts[meaningTextIds[i]] != exclusion) {
+                excludedTexts[meaningTextIds[i]] = exclusion;
+                ++excludedTextCount;
+            }
+        }
+    }
+
+    Meaning[] generate(QuestionType type, int answerIndex, int choiceCount, Random random) throws Exception {
+        if (++exclusion == Integer.MAX_VALUE) {
+            Arrays.fill(excludedWords, 0);
+            Arrays.fill(excludedTexts, 0);
+
+            exclusion = 1;
+        }
+
+        final Meaning[] choices = new Meaning[choiceCount];
+        int count = 0;
+
+        excludedTextCount = 0;
+
+        choices[count++] = meaningTable.getMeaning(answerIndex);
+        exclude(answerIndex);
+
+        for (int i = 0; i < meaningOrder.length && count < choiceCount && excludedTextCount < excludedTexts.length; ++i) {
+            final int orderIndex = i + random.nextInt(meaningOrder.length - i);
+            final int meaningIndex = meaningOrder[orderIndex];
+
+            meaningOrder[orderIndex] = meaningOrder[i];
+            meaningOrder[i] = meaningIndex;
+
+            if (isExcluded(meaningIndex)) continue;
+
+            final Meaning meaning = meaningTable.getMeaning(meaningIndex);
+            if (!type.isUsableForAnswer(meaning)) continue;
+
+            choices[count++] = meaning;
+            exclude(meaningIndex);
+        }
+
+        if (count < QuestionContext.MIN_CHOICE_COUNT) throw new Exception();
+
+        return count < choiceCount ? Arrays.copyOf(choices, count) : choices;
+    }
+}
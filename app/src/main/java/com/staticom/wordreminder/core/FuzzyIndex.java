@@ -0,0 +1,216 @@
+package com.staticom.wordreminder.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeMap;
+
+class FuzzyIndex {
+
+    private static class Match {
+
+        private final int distance;
+        private final String term;
+        private final List<WordSnapshot> words;
+
+        public Match(int distance, String term, List<WordSnapshot> words) {
+            this.distance = distance;
+            this.term = term;
+            this.words = words;
+        }
+    }
+
+    private final TreeMap<String, List<WordSnapshot>> terms = new TreeMap<>();
+    private String[] sortedTerms;
+
+    private Set<WordSnapshot> words = Collections.newSetFromMap(new IdentityHashMap<>());
+    private VocabularySnapshot snapshot;
+
+    static FuzzyIndex build(VocabularySnapshot snapshot) {
+        final FuzzyIndex index = new FuzzyIndex();
+
+        index.update(snapshot);
+
+        return index;
+    }
+
+    private void addTerm(WordSnapshot word) {
+        final String term = word.getWordKey().getFoldedText();
+        List<WordSnapshot> termWords = terms.get(term);
+
+        if (termWords == null) {
+            termWords = new ArrayList<>(1);
+            terms.put(term, termWords);
+
+            sortedTerms = null;
+        }
+
+        termWords.add(word);
+    }
+
+    private void removeTerm(WordSnapshot word) {
+        final String term = word.getWordKey().getFoldedText();
+        final List<WordSnapshot> termWords = terms.get(term);
+        if (termWords == null) return;
+
+        for (int i = 0; i < termWords.size(); ++i) {
+            if (termWords.get(i) == word) {
+                termWords.remove(i);
+                break;
+            }
+        }
+
+        if (termWords.isEmpty()) {
+            terms.remove(term);
+
+            sortedTerms = null;
+        }
+    }
+
+    void update(VocabularySnapshot newSnapshot) {
+        if (snapshot == newSnapshot) return;
+
+        final Set<WordSnapshot> oldWords = words;
+
+        words = Collections.newSetFromMap(new IdentityHashMap<>(newSnapshot.size()));
+        words.addAll(newSnapshot.getWords());
+
+        for (final WordSnapshot word : oldWords) {
+            if (!words.contains(word)) {
+                removeTerm(word);
+            }
+        }
+
+        for (final WordSnapshot word : newSnapshot.getWords()) {
+            if (!oldWords.contains(word)) {
+                addTerm(word);
+            }
+        }
+
+        snapshot = newSnapshot;
+    }
+
+    private static int getCommonPrefixLength(String a, String b) {
+        final int length = Math.min(a.length(), b.length());
+
+        for (int i = 0; i < length; ++i) {
+            if (a.charAt(i) != b.charAt(i)) return i;
+        }
+
+        return length;
+    }
+
+    private int findFirstTermWithoutPrefix(int from, String term, int prefixLength) {
+        int low = from + 1, high = low, step = 1;
+
+        while (high < sortedTerms.length && getCommonPrefixLength(sortedTerms[high], term) >= prefixLength) {
+            low = high + 1;
+            high = Math.min(high + step, sortedTerms.length);
+            step *= 2;
+        }
+
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+
+            if (getCommonPrefixLength(sortedTerms[middle], term) >= prefixLength) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        return low;
+    }
+
+    List<WordSnapshot> search(String normalizedQuery, int maxDistance) {
+        final List<Match> matches = new ArrayList<>();
+        final int queryLength = normalizedQuery.length();
+        int[][] rows = new int[queryLength + maxDistance + 2][queryLength + 1];
+
+        for (int j = 0; j <= queryLength; ++j) {
+            rows[0][j] = j;
+        }
+
+        if (sortedTerms == null) {
+            sortedTerms = terms.keySet().toArray(new String[0]);
+        }
+
+        String previousTerm = "";
+        int validDepth = 0;
+        int index = 0;
+
+        while (index < sortedTerms.length) {
+            final String term = sortedTerms[index];
+            int depth = Math.min(getCommonPrefixLength(previousTerm, term), validDepth);
+            boolean isPruned = false;
+
+            if (term.length() >= rows.length) {
+                final int[][] newRows = new int[term.length() + 1][];
+
+                System.arraycopy(rows, 0, newRows, 0, rows.length);
+
+                for (int i = rows.length; i < newRows.length; ++i) {
+                    newRows[i] = new int[queryLength + 1];
+                }
+
+                rows = newRows;
+            }
+
+            while (depth < term.length()) {
+                final int[] previousRow = rows[depth];
+                final int[] row = rows[++depth];
+                final char c = term.charAt(depth - 1);
+                final int from = Math.max(1, depth - maxDistance);
+                final int to = Math.min(queryLength, depth + maxDistance);
+                int rowMinimum = row[0] = depth;
+
+                if (from > 1) {
+                    row[from - 1] = maxDistance + 1;
+                }
+
+                for (int j = from; j <= to; ++j) {
+                    final int substitution = previousRow[j - 1] + (c == normalizedQuery.charAt(j - 1) ? 0 : 1);
+
+                    row[j] = Math.min(substitution, Math.min(row[j - 1], previousRow[j]) + 1);
+                    rowMinimum = Math.min(rowMinimum, row[j]);
+                }
+
+                if (to < queryLength) {
+                    row[to + 1] = maxDistance + 1;
+                }
+
+                if (rowMinimum > maxDistance) {
+                    isPruned = true;
+                    break;
+                }
+            }
+
+            previousTerm = term;
+            validDepth = depth;
+
+            if (isPruned) {
+                index = findFirstTermWithoutPrefix(index, term, depth);
+                continue;
+            }
+
+            final int distance = Math.abs(depth - queryLength) <= maxDistance ? rows[depth][queryLength] : maxDistance + 1;
+            if (distance <= maxDistance) {
+                matches.add(new Match(distance, term, terms.get(term)));
+            }
+
+            ++index;
+        }
+
+        matches.sort((a, b) -> a.distance != b.distance ? Integer.compare(a.distance, b.distance) : a.term.compareTo(b.term));
+
+        final List<WordSnapshot> result = new ArrayList<>();
+
+        for (final Match match : matches) {
+            result.addAll(match.words);
+        }
+
+        return result;
+    }
+}
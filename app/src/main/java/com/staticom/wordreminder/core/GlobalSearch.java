@@ -0,0 +1,260 @@
+package com.staticom.wordreminder.core;
+
+import com.staticom.wordreminder.utility.IdentityIndexMap;
+import com.staticom.wordreminder.utility.TextNormalizer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class GlobalSearch {
+
+    public interface OnVocabularySearchedListener {
+        void onVocabularySearched(String query, VocabularyMetadata vocabulary, List<Word> words);
+    }
+
+    public interface OnVocabularySearchFailedListener {
+        void onVocabularySearchFailed(String query, VocabularyMetadata vocabulary, IOException e);
+    }
+
+    private static class OpenedVocabulary {
+
+        private final FileTime vocabularyTime;
+        private final long vocabularySize;
+        private final FileTime journalTime;
+        private final long journalSize;
+
+        private final VocabularyFileReader vocabularyReader;
+        private final SearchIndexFile indexFile;
+        private final int[] positions;
+        private final int[] changedPositions;
+        private final List<WordSnapshot> changedWords;
+
+        public OpenedVocabulary(FileTime vocabularyTime, long vocabularySize, FileTime journalTime, long journalSize,
+                                VocabularyFileReader vocabularyReader, SearchIndexFile indexFile,
+                                int[] positions, int[] changedPositions, List<WordSnapshot> changedWords) {
+            this.vocabularyTime = vocabularyTime;
+            this.vocabularySize = vocabularySize;
+            this.journalTime = journalTime;
+            this.journalSize = journalSize;
+            this.vocabularyReader = vocabularyReader;
+            this.indexFile = indexFile;
+            this.positions = positions;
+            this.changedPositions = changedPositions;
+            this.changedWords = changedWords;
+        }
+
+        public boolean isCurrent(Path path, Path journalPath) throws IOException {
+            return vocabularyTime.equals(Files.getLastModifiedTime(path)) && vocabularySize == Files.size(path) &&
+                    Objects.equals(journalTime, getLastModifiedTime(journalPath)) && journalSize == getSize(journalPath);
+        }
+
+        public int getPosition(int id) {
+            return positions != null ? positions[id] : id;
+        }
+    }
+
+    private static final int MAX_THREAD_COUNT = 4;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(
+            Math.max(1, Math.min(MAX_THREAD_COUNT, Runtime.getRuntime().availableProcessors())));
+    private final Executor callbackExecutor;
+    private final AtomicInteger generation = new AtomicInteger();
+    private final Map<Path, OpenedVocabulary> openedVocabularies = new ConcurrentHashMap<>();
+
+    public GlobalSearch(Executor callbackExecutor) {
+        this.callbackExecutor = callbackExecutor;
+    }
+
+    public void search(VocabularyList vocabularyList, String query,
+                       OnVocabularySearchedListener listener, OnVocabularySearchFailedListener failedListener) {
+        final int searchGeneration = generation.incrementAndGet();
+        final String normalizedQuery = TextNormalizer.normalize(query);
+
+        for (final VocabularyMetadata metadata : vocabularyList.getVocabularyList()) {
+            final VocabularySnapshot snapshot = metadata.hasVocabulary() ? metadata.getVocabulary().getSnapshot() : null;
+            final Path path = metadata.getPath();
+
+            executor.execute(() -> {
+                if (generation.get() != searchGeneration) return;
+
+                try {
+                    final List<Word> words = searchWords(snapshot, path, normalizedQuery, searchGeneration);
+                    if (words == null) return;
+
+                    callbackExecutor.execute(() -> {
+                        if (generation.get() == searchGeneration) {
+                            listener.onVocabularySearched(query, metadata, words);
+                        }
+                    });
+                } catch (final IOException e) {
+                    callbackExecutor.execute(() -> {
+                        if (generation.get() == searchGeneration) {
+                            failedListener.onVocabularySearchFailed(query, metadata, e);
+                        }
+                    });
+                }
+            });
+        }
+    }
+
+    public void cancel() {
+        generation.incrementAndGet();
+    }
+
+    public void close() {
+        cancel();
+
+        executor.shutdown();
+        openedVocabularies.clear();
+    }
+
+    private static FileTime getLastModifiedTime(Path path) throws IOException {
+        return Files.exists(path) ? Files.getLastModifiedTime(path) : null;
+    }
+
+    private static long getSize(Path path) throws IOException {
+        return Files.exists(path) ? Files.size(path) : -1;
+    }
+
+    private static OpenedVocabulary openVocabulary(Path path, Path journalPath) throws IOException {
+        final FileTime vocabularyTime = Files.getLastModifiedTime(path);
+        final ByteBuffer file;
+
+        try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            file = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        final VocabularyFileReader vocabularyReader = new VocabularyFileReader(file);
+        final SearchIndexFile indexFile = SearchIndexFile.open(path, file, vocabularyReader.getWordCount());
+
+        if (!Files.exists(journalPath)) {
+            return new OpenedVocabulary(vocabularyTime, file.capacity(), null, -1,
+                    vocabularyReader, indexFile, null, new int[0], Collections.emptyList());
+        }
+
+        final Vocabulary vocabulary = new Vocabulary();
+
+        for (int i = 0; i < vocabularyReader.getWordCount(); ++i) {
+            vocabulary.addWord(new Word(""));
+        }
+
+        for (int i = vocabularyReader.readTagCount(); i > 0; --i) {
+            vocabulary.addTag(new Tag(vocabulary, ""));
+        }
+
+        final List<Word> baseWords = new ArrayList<>(vocabulary.getWords());
+
+        vocabulary.startTracking();
+
+        VocabularyJournal.replay(path, vocabulary);
+
+        final Set<Word> changedWords = vocabulary.getChanges().getChangedWords();
+        final IdentityIndexMap wordPositions = vocabulary.getWordPositions();
+        final int[] positions = new int[baseWords.size()];
+
+        for (int i = 0; i < positions.length; ++i) {
+            positions[i] = changedWords.contains(baseWords.get(i)) ? -1 : wordPositions.get(baseWords.get(i));
+        }
+
+        final int[] changedPositions = new int[changedWords.size()];
+        final List<WordSnapshot> changedWordSnapshots = new ArrayList<>(changedWords.size());
+
+        for (int i = 0; i < vocabulary.getWords().size(); ++i) {
+            final Word word = vocabulary.getWord(i);
+
+            if (changedWords.contains(word)) {
+                changedPositions[changedWordSnapshots.size()] = i;
+                changedWordSnapshots.add(new WordSnapshot(word));
+            }
+        }
+
+        return new OpenedVocabulary(vocabularyTime, file.capacity(), getLastModifiedTime(journalPath), getSize(journalPath),
+                vocabularyReader, indexFile, positions, changedPositions, changedWordSnapshots);
+    }
+
+    private OpenedVocabulary getOpenedVocabulary(Path path) throws IOException {
+        final Path journalPath = VocabularyJournal.getJournalPath(path);
+        final OpenedVocabulary openedVocabulary = openedVocabularies.get(path);
+        if (openedVocabulary != null && openedVocabulary.isCurrent(path, journalPath)) return openedVocabulary;
+
+        final OpenedVocabulary newOpenedVocabulary =
+                VocabularyPersistence.getInstance().readFiles(() -> openVocabulary(path, journalPath));
+
+        openedVocabularies.put(path, newOpenedVocabulary);
+
+        return newOpenedVocabulary;
+    }
+
+    private static int addChangedWords(OpenedVocabulary vocabulary, SearchMode mode, String query,
+                                       int index, int position, List<Word> result) {
+        for (; index < vocabulary.changedWords.size() && vocabulary.changedPositions[index] < position; ++index) {
+            final WordSnapshot word = vocabulary.changedWords.get(index);
+
+            if (word.matches(mode, query)) {
+                result.add(word.getWord());
+            }
+        }
+
+        return index;
+    }
+
+    private List<Word> searchWords(VocabularySnapshot snapshot, Path path, String normalizedQuery,
+                                   int searchGeneration) throws IOException {
+        if (snapshot != null) return VocabularySnapshot.toWords(snapshot.searchWords(normalizedQuery, null));
+        else if (path == null) return new ArrayList<>();
+
+        final OpenedVocabulary vocabulary = getOpenedVocabulary(path);
+        final SearchMode mode = SearchMode.of(normalizedQuery);
+        final String query = mode.getQuery(normalizedQuery);
+        final int wordCount = vocabulary.vocabularyReader.getWordCount();
+        final BitSet candidates;
+
+        if (vocabulary.indexFile != null && query.length() >= SearchIndex.GRAM_LENGTH) {
+            candidates = vocabulary.indexFile.getTable(mode).getCandidates(query);
+        } else {
+            candidates = new BitSet(wordCount);
+            candidates.set(0, wordCount);
+        }
+
+        final List<Word> result = new ArrayList<>();
+        int changedIndex = 0;
+
+        synchronized (vocabulary) {
+            for (int id = candidates.nextSetBit(0); id != -1; id = candidates.nextSetBit(id + 1)) {
+                if (generation.get() != searchGeneration) return null;
+
+                final int position = vocabulary.getPosition(id);
+                if (position == -1) continue;
+
+                changedIndex = addChangedWords(vocabulary, mode, query, changedIndex, position, result);
+
+                final Word word = vocabulary.vocabularyReader.readWord(id);
+
+                if (new WordSnapshot(word).matches(mode, query)) {
+                    result.add(word);
+                }
+            }
+        }
+
+        addChangedWords(vocabulary, mode, query, changedIndex, Integer.MAX_VALUE, result);
+
+        return result;
+    }
+}
@@ -1,5 +1,7 @@
 package com.staticom.wordreminder.core;
 
+import com.staticom.wordreminder.utility.TextNormalizer;
+
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -21,6 +23,10 @@ public class Meaning implements Serializable {
 
     private final List<Tag> tags = new ArrayList<>();
 
+    private transient TextNormalizer.Key normalizedMeaning;
+    private transient TextNormalizer.Key normalizedPronunciation;
+    private transient TextNormalizer.Key normalizedExample;
+
     public Meaning(String meaning, String pronunciation) {
         this.meaning = meaning;
         this.pronunciation = pronunciation;
@@ -53,6 +59,21 @@ public class Meaning implements Serializable {
 
     public void setMeaning(String meaning) {
         this.meaning = meaning;
+        normalizedMeaning = null;
+
+        markChanged();
+    }
+
+    TextNormalizer.Key getMeaningKey() {
+        final TextNormalizer.Key key = TextNormalizer.getKey(normalizedMeaning, meaning);
+
+        normalizedMeaning = key;
+
+        return key;
+    }
+
+    public String getNormalizedMeaning() {
+        return getMeaningKey().getNormalizedText();
     }
 
     public boolean hasPronunciation() {
@@ -65,6 +86,21 @@ public class Meaning implements Serializable {
 
     public void setPronunciation(String pronunciation) {
         this.pronunciation = pronunciation;
+        normalizedPronunciation = null;
+
+        markChanged();
+    }
+
+    TextNormalizer.Key getPronunciationKey() {
+        final TextNormalizer.Key key = TextNormalizer.getKey(normalizedPronunciation, pronunciation);
+
+        normalizedPronunciation = key;
+
+        return key;
+    }
+
+    public String getNormalizedPronunciation() {
+        return getPronunciationKey().getNormalizedText();
     }
 
     public boolean hasExample() {
@@ -77,6 +113,27 @@ public class Meaning implements Serializable {
 
     public void setExample(String example) {
         this.example = example;
+        normalizedExample = null;
+
+        markChanged();
+    }
+
+    TextNormalizer.Key getExampleKey() {
+        final TextNormalizer.Key key = TextNormalizer.getKey(normalizedExample, example);
+
+        normalizedExample = key;
+
+        return key;
+    }
+
+    public String getNormalizedExample() {
+        return getExampleKey().getNormalizedText();
+    }
+
+    private void markChanged() {
+        if (word != null) {
+            word.markChanged();
+        }
     }
 
     public String getComponent(Component component) {
@@ -98,6 +155,25 @@ public class Meaning implements Serializable {
         }
     }
 
+    public String getNormalizedComponent(Component component) {
+        switch (component) {
+            case WORD:
+                return word.getNormalizedWord();
+
+            case MEANING:
+                return getNormalizedMeaning();
+
+            case PRONUNCIATION:
+                return getNormalizedPronunciation();
+
+            case EXAMPLE:
+                return getNormalizedExample();
+
+            default:
+                return null;
+        }
+    }
+
     public List<Tag> getTags() {
         return Collections.unmodifiableList(tags);
     }
@@ -118,12 +194,16 @@ public class Meaning implements Serializable {
         tags.add(tag);
 
         tag.addMeaning(this);
+
+        markChanged();
     }
 
     public void removeTag(Tag tag) {
         tags.remove(tag);
 
         tag.removeMeaning(this);
+
+        markChanged();
     }
 
     public void removeAllTags() {
@@ -132,5 +212,7 @@ public class Meaning implements Serializable {
         }
 
         tags.clear();
+
+        markChanged();
     }
 }
\ No newline at end of file
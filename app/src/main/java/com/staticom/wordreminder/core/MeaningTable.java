@@ -0,0 +1,56 @@
+package com.staticom.wordreminder.core;
+
+import java.util.List;
+import java.util.Random;
+
+class MeaningTable {
+
+    private final Meaning[] meanings;
+    private final int[] wordIndices;
+    private final int[] firstMeaningIndices;
+
+    MeaningTable(Vocabulary vocabulary) {
+        final List<Word> words = vocabulary.getWords();
+
+        meanings = new Meaning[vocabulary.getMeaningCount()];
+        wordIndices = new int[meanings.length];
+        firstMeaningIndices = new int[words.size() + 1];
+
+        int index = 0;
+
+        for (int i = 0; i < words.size(); ++i) {
+            firstMeaningIndices[i] = index;
+
+            for (final Meaning meaning : words.get(i).getMeanings()) {
+                meanings[index] = meaning;
+                wordIndices[index++] = i;
+            }
+        }
+
+        firstMeaningIndices[words.size()] = index;
+    }
+
+    int size() {
+        return meanings.length;
+    }
+
+    int getWordCount() {
+        return firstMeaningIndices.length - 1;
+    }
+
+    Meaning getMeaning(int index) {
+        return meanings[index];
+    }
+
+    int getWordIndex(int index) {
+        return wordIndices[index];
+    }
+
+    int getFirstMeaningIndex(int wordIndex) {
+        return firstMeaningIndices[wordIndex];
+    }
+
+    int getRandomIndex(Random random) {
+        return random.nextInt(meanings.length);
+    }
+}
@@ -6,12 +6,18 @@ public class Question implements Serializable {
 
     private final QuestionType type;
     private final Meaning answer;
+    private final int answerIndex;
 
     private final Meaning[] choices;
 
-    public Question(QuestionType type, Meaning answer, Meaning[] choices) {
+    private transient CharSequence hint;
+    private transient CharSequence answerHint;
+    private transient CharSequence[] choiceTexts;
+
+    public Question(QuestionType type, Meaning answer, int answerIndex, Meaning[] choices) {
         this.type = type;
         this.answer = answer;
+        this.answerIndex = answerIndex;
 
         this.choices = choices;
     }
@@ -28,7 +34,39 @@ public class Question implements Serializable {
         return answer;
     }
 
+    int getAnswerIndex() {
+        return answerIndex;
+    }
+
+    public int getChoiceCount() {
+        return choices != null ? choices.length : 0;
+    }
+
     public Meaning getChoice(int index) {
         return choices[index];
     }
+
+    public CharSequence getHint() {
+        return hint;
+    }
+
+    public void setHint(CharSequence hint) {
+        this.hint = hint;
+    }
+
+    public CharSequence getAnswerHint() {
+        return answerHint;
+    }
+
+    public void setAnswerHint(CharSequence answerHint) {
+        this.answerHint = answerHint;
+    }
+
+    public CharSequence[] getChoiceTexts() {
+        return choiceTexts;
+    }
+
+    public void setChoiceTexts(CharSequence[] choiceTexts) {
+        this.choiceTexts = choiceTexts;
+    }
 }
\ No newline at end of file
@@ -1,14 +1,20 @@
 package com.staticom.wordreminder.core;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicReference;
 
 public class QuestionContext {
 
+    public static final int MIN_CHOICE_COUNT = 2;
+    public static final int MAX_CHOICE_COUNT = 5;
+
     private static final int LOOP_LIMIT = 1000;
 
     private interface LoopBody<T> {
@@ -18,16 +24,20 @@ public class QuestionContext {
     private final Random random = new Random();
 
     private final VocabularyMetadata vocabulary;
-    private final int meaningCount;
+    private final MeaningTable meaningTable;
+    private DistractorGenerator distractorGenerator;
+    private Path reviewVocabularyPath;
+    private ReviewScheduler reviewScheduler;
     private final List<QuestionType> usableTypes = new ArrayList<>();
 
     private boolean displayPronunciation;
     private boolean displayExample;
     private boolean avoidDuplication;
+    private int choiceCount = MAX_CHOICE_COUNT;
 
     public QuestionContext(VocabularyMetadata vocabulary) {
         this.vocabulary = vocabulary;
-        meaningCount = vocabulary.getVocabulary().getMeaningCount();
+        meaningTable = new MeaningTable(vocabulary.getVocabulary());
     }
 
     public VocabularyMetadata getVocabulary() {
@@ -62,6 +72,34 @@ public class QuestionContext {
         this.avoidDuplication = avoidDuplication;
     }
 
+    public int getChoiceCount() {
+        return choiceCount;
+    }
+
+    public void setChoiceCount(int choiceCount) {
+        this.choiceCount = Math.max(MIN_CHOICE_COUNT, Math.min(MAX_CHOICE_COUNT, choiceCount));
+    }
+
+    public void setSpacedRepetition(Path vocabularyPath) {
+        reviewVocabularyPath = vocabularyPath;
+        reviewScheduler = null;
+    }
+
+    public int getMaxPendingQuestionCount() {
+        return reviewVocabularyPath != null ? meaningTable.size() : Integer.MAX_VALUE;
+    }
+
+    private ReviewScheduler getReviewScheduler() throws IOException {
+        if (reviewScheduler == null) {
+            final boolean isPartial = !reviewVocabularyPath.equals(vocabulary.getPath());
+
+            reviewScheduler = ReviewScheduler.load(
+                    reviewVocabularyPath, meaningTable, isPartial, random, System.currentTimeMillis());
+        }
+
+        return reviewScheduler;
+    }
+
     private <T> T loop(LoopBody<T> body) throws Exception {
         final AtomicReference<T> result = new AtomicReference<>();
 
@@ -72,61 +110,66 @@ public class QuestionContext {
         throw new Exception();
     }
 
-    private Meaning getRandomMeaning() {
-        final Vocabulary vocabulary = this.vocabulary.getVocabulary();
-        final Word word = vocabulary.getWord(random.nextInt(vocabulary.getWords().size()));
+    private int getNextMeaningIndex(QuestionType type) throws Exception {
+        for (int i = 0; i < meaningTable.size(); ++i) {
+            final int index = type.getNextMeaningIndex(meaningTable.size(), random);
+            if (type.isUsableForAnswer(meaningTable.getMeaning(index))) return index;
+        }
 
-        return word.getMeaning(random.nextInt(word.getMeanings().size()));
+        throw new Exception();
     }
 
-    public Question createQuestion() throws Exception {
-        final QuestionType type = getRandomUsableType();
-        final Meaning answer = loop(result -> {
-            final Meaning meaning = getRandomMeaning();
-            if (type.isUsableForAnswer(meaning)) {
-                if (avoidDuplication) {
-                    if (type.getUsedMeanings().contains(meaning)) return false;
+    private int getNextReviewIndex() throws Exception {
+        final int index = getReviewScheduler().poll();
+        if (index == -1) throw new Exception();
 
-                    type.addUsedMeaning(meaning);
+        return index;
+    }
 
-                    if (type.getUsedMeanings().size() == meaningCount) { //TODO
-                        type.removeAllUsedMeanings();
-                    }
-                }
+    private int getAnswerIndex(QuestionType type) throws Exception {
+        if (reviewVocabularyPath != null) return getNextReviewIndex();
+        else if (avoidDuplication) return getNextMeaningIndex(type);
+        else return loop(result -> {
+            final int index = meaningTable.getRandomIndex(random);
+            if (!type.isUsableForAnswer(meaningTable.getMeaning(index))) return false;
 
-                result.set(meaning);
+            result.set(index);
 
-                return true;
-            } else return false;
+            return true;
         });
+    }
 
+    public Question createQuestion() throws Exception {
+        final QuestionType type = getRandomUsableType();
+        final int answerIndex = getAnswerIndex(type);
+
+        final Meaning answer = meaningTable.getMeaning(answerIndex);
         final Meaning[] choices;
 
         if (type.getAnswerType() != QuestionType.AnswerType.MULTIPLE_CHOICE) {
             choices = null;
         } else {
-            choices = new Meaning[] { answer, null, null, null, null };
+            if (distractorGenerator == null) {
+                distractorGenerator = new DistractorGenerator(meaningTable);
+            }
 
-            for (int i = 1; i < 5; ++i) {
-                final int finalI = i;
+            choices = distractorGenerator.generate(type, answerIndex, choiceCount, random);
 
-                choices[i] = loop(result -> {
-                    final Meaning meaning = getRandomMeaning();
-                    if (!type.isUsableForAnswer(meaning)) return false;
+            Collections.shuffle(Arrays.asList(choices));
+        }
 
-                    for (int j = 0; j < finalI; ++j) {
-                        if (type.isDuplicatedForAnswer(choices[j], meaning)) return false;
-                    }
+        return new Question(type, answer, answerIndex, choices);
+    }
 
-                    result.set(meaning);
+    public void review(Question question, boolean isCorrect) throws IOException {
+        if (reviewVocabularyPath == null) return;
 
-                    return true;
-                });
-            }
+        getReviewScheduler().review(question.getAnswerIndex(), isCorrect, System.currentTimeMillis());
+    }
 
-            Collections.shuffle(Arrays.asList(choices));
-        }
+    public CompletableFuture<Void> saveReviews() throws IOException {
+        if (reviewScheduler == null) return CompletableFuture.completedFuture(null);
 
-        return new Question(type, answer, choices);
+        return reviewScheduler.save();
     }
-}
\ No newline at end of file
+}
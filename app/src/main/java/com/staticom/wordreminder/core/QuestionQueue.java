@@ -0,0 +1,110 @@
+package com.staticom.wordreminder.core;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public class QuestionQueue {
+
+    public interface QuestionPreparer {
+        void prepareQuestion(Question question);
+    }
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    private final QuestionContext context;
+    private final QuestionPreparer preparer;
+    private final int capacity;
+    private final Deque<CompletableFuture<Question>> questions = new ArrayDeque<>();
+
+    private Duration lastWaitDuration = Duration.ZERO;
+
+    public QuestionQueue(QuestionContext context, QuestionPreparer preparer, int capacity) {
+        this.context = context;
+        this.preparer = preparer;
+        this.capacity = Math.max(1, capacity);
+    }
+
+    public Duration getLastWaitDuration() {
+        return lastWaitDuration;
+    }
+
+    private Question createQuestion() {
+        try {
+            final Question question = context.createQuestion();
+
+            preparer.prepareQuestion(question);
+
+            return question;
+        } catch (final Exception e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    private void prefetch(int displayedQuestionCount) {
+        final int count = (int)Math.min(capacity, (long)context.getMaxPendingQuestionCount() - displayedQuestionCount);
+
+        while (questions.size() < count) {
+            questions.add(CompletableFuture.supplyAsync(this::createQuestion, executor));
+        }
+    }
+
+    public void prefetch() {
+        prefetch(0);
+    }
+
+    public Question poll() throws Exception {
+        if (questions.isEmpty()) {
+            questions.add(CompletableFuture.supplyAsync(this::createQuestion, executor));
+        }
+
+        final CompletableFuture<Question> question = questions.poll();
+        final long waitStartTime = System.nanoTime();
+
+        prefetch(1);
+
+        try {
+            return question.get();
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof Exception) throw (Exception)e.getCause();
+            else throw e;
+        } finally {
+            lastWaitDuration = Duration.ofNanos(System.nanoTime() - waitStartTime);
+        }
+    }
+
+    public CompletableFuture<Void> review(Question question, boolean isCorrect) {
+        return CompletableFuture.runAsync(() -> {
+            try {
+                context.review(question, isCorrect);
+            } catch (final IOException e) {
+                throw new CompletionException(e);
+            }
+        }, executor);
+    }
+
+    public CompletableFuture<Void> saveReviews() {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return context.saveReviews();
+            } catch (final IOException e) {
+                throw new CompletionException(e);
+            }
+        }, executor).thenCompose(result -> result);
+    }
+
+    public void close() {
+        for (final CompletableFuture<Question> question : questions) {
+            question.cancel(false);
+        }
+
+        questions.clear();
+        executor.shutdown();
+    }
+}
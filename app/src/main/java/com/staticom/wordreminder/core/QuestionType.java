@@ -7,10 +7,8 @@ import androidx.annotation.StringRes;
 import com.staticom.wordreminder.R;
 
 import java.io.Serializable;
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.EnumSet;
-import java.util.List;
+import java.util.Random;
 
 public class QuestionType implements Serializable {
 
@@ -32,7 +30,8 @@ public class QuestionType implements Serializable {
     private final Meaning.Component mainComponent, answerComponent;
     private final EnumSet<Meaning.Component> hintsForMainComponent, hintsForAnswerComponent;
 
-    private final List<Meaning> usedMeanings = new ArrayList<>();
+    private int[] meaningOrder;
+    private int nextMeaningOrder;
 
     protected QuestionType(Type type, AnswerType answerType,
                            @StringRes int messageId, Meaning.Component mainComponent, EnumSet<Meaning.Component> hintsForMainComponent,
@@ -83,6 +82,10 @@ public class QuestionType implements Serializable {
         return meaning.getComponent(answerComponent);
     }
 
+    public String getNormalizedAnswerComponent(Meaning meaning) {
+        return meaning.getNormalizedComponent(answerComponent);
+    }
+
     public boolean shouldDisplayPronunciationForAnswerComponent(Meaning meaning) {
         return meaning.hasPronunciation() && hintsForAnswerComponent.contains(Meaning.Component.PRONUNCIATION);
     }
@@ -91,31 +94,31 @@ public class QuestionType implements Serializable {
         return meaning.hasExample() && hintsForAnswerComponent.contains(Meaning.Component.EXAMPLE);
     }
 
-    public List<Meaning> getUsedMeanings() {
-        return Collections.unmodifiableList(usedMeanings);
-    }
+    public int getNextMeaningIndex(int meaningCount, Random random) {
+        if (meaningOrder == null || meaningOrder.length != meaningCount) {
+            meaningOrder = new int[meaningCount];
+            nextMeaningOrder = 0;
 
-    public void addUsedMeaning(Meaning meaning) {
-        usedMeanings.add(meaning);
-    }
+            for (int i = 0; i < meaningCount; ++i) {
+                meaningOrder[i] = i;
+            }
+        } else if (nextMeaningOrder == meaningCount) {
+            nextMeaningOrder = 0;
+        }
+
+        final int index = nextMeaningOrder + random.nextInt(meaningCount - nextMeaningOrder);
+        final int meaningIndex = meaningOrder[index];
 
-    public void removeAllUsedMeanings() {
-        usedMeanings.clear();
+        meaningOrder[index] = meaningOrder[nextMeaningOrder];
+        meaningOrder[nextMeaningOrder++] = meaningIndex;
+
+        return meaningIndex;
     }
 
     public boolean isUsableForAnswer(Meaning meaning) {
         return true;
     }
 
-    public boolean isDuplicatedForAnswer(Meaning fixedMeaning, Meaning meaning) {
-        if (fixedMeaning.getWord() == meaning.getWord() ||
-                fixedMeaning.getMeaning().equals(meaning.getMeaning())) return true;
-
-        final Word fixedWord = fixedMeaning.getWord();
-
-        return fixedWord.containsMeaning(meaning.getMeaning());
-    }
-
     public static class WordToMeaning extends QuestionType {
 
         private WordToMeaning(AnswerType answerType) {
@@ -4,20 +4,34 @@ import java.io.Serializable;
 
 public class Relation implements Serializable {
 
+    private final Word owner;
     private Word word;
     private String relation;
 
     public Relation(Word word, String relation) {
+        this(null, word, relation);
+    }
+
+    Relation(Word owner, Word word, String relation) {
+        this.owner = owner;
         this.word = word;
         this.relation = relation;
     }
 
+    private void markChanged() {
+        if (owner != null) {
+            owner.markChanged();
+        }
+    }
+
     public Word getWord() {
         return word;
     }
 
     public void setWord(Word word) {
         this.word = word;
+
+        markChanged();
     }
 
     public String getRelation() {
@@ -26,5 +40,7 @@ public class Relation implements Serializable {
 
     public void setRelation(String relation) {
         this.relation = relation;
+
+        markChanged();
     }
 }
\ No newline at end of file
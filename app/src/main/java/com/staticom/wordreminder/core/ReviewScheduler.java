@@ -0,0 +1,332 @@
+package com.staticom.wordreminder.core;
+
+import com.staticom.wordreminder.utility.BinaryStream;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+
+class ReviewScheduler {
+
+    private static final String REVIEW_SUFFIX = ".review";
+    private static final int REVIEW_MAGIC = 0x56525257;
+    private static final int REVIEW_VERSION = 1;
+    private static final int HEADER_SIZE = 12;
+    private static final int RECORD_SIZE = 24;
+
+    private static final int CORRECT_QUALITY = 4;
+    private static final int WRONG_QUALITY = 1;
+    private static final int INITIAL_EASE = 250;
+    private static final int MIN_EASE = 130;
+    private static final int MAX_INTERVAL = 36500;
+    private static final long DAY = Duration.ofDays(1).toMillis();
+    private static final long RELEARNING_DELAY = Duration.ofMinutes(10).toMillis();
+
+    private final Path path;
+
+    private final long[] keys;
+    private final long[] dueTimes;
+    private final int[] intervals;
+    private final short[] eases;
+    private final short[] repetitions;
+    private final BinaryStream unmatchedRecords = new BinaryStream(0);
+    private int unmatchedRecordCount;
+
+    private final int[] heap;
+    private final int[] heapPositions;
+    private int heapSize;
+
+    private boolean isChanged;
+
+    private ReviewScheduler(Path path, MeaningTable meaningTable) {
+        this.path = path;
+
+        keys = new long[meaningTable.size()];
+        dueTimes = new long[keys.length];
+        intervals = new int[keys.length];
+        eases = new short[keys.length];
+        repetitions = new short[keys.length];
+
+        heap = new int[keys.length];
+        heapPositions = new int[keys.length];
+    }
+
+    static Path getReviewPath(Path path) {
+        return path.resolveSibling(path.getFileName() + REVIEW_SUFFIX);
+    }
+
+    static void delete(Path path) throws IOException {
+        Files.deleteIfExists(getReviewPath(path));
+    }
+
+    private static long getKey(Meaning meaning) {
+        long hash = 0xCBF29CE484222325L;
+
+        for (final char c : meaning.getWord().getNormalizedWord().toCharArray()) {
+            hash = (hash ^ c) * 0x100000001B3L;
+        }
+
+        hash *= 0x100000001B3L;
+
+        for (final char c : meaning.getNormalizedMeaning().toCharArray()) {
+            hash = (hash ^ c) * 0x100000001B3L;
+        }
+
+        return hash;
+    }
+
+    static ReviewScheduler load(Path vocabularyPath, MeaningTable meaningTable, boolean isPartial,
+                                Random random, long now) throws IOException {
+        final ReviewScheduler scheduler = new ReviewScheduler(getReviewPath(vocabularyPath), meaningTable);
+
+        for (int i = 0; i < scheduler.keys.length; ++i) {
+            scheduler.keys[i] = getKey(meaningTable.getMeaning(i));
+            scheduler.dueTimes[i] = now;
+        }
+
+        VocabularyPersistence.getInstance().waitForPendingSaves();
+
+        final ByteBuffer file = scheduler.readFile();
+        if (file != null) {
+            scheduler.readRecords(file, isPartial);
+        }
+
+        scheduler.buildHeap(random);
+
+        return scheduler;
+    }
+
+    private ByteBuffer readFile() throws IOException {
+        if (!Files.exists(path)) return null;
+
+        final ByteBuffer file;
+
+        try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_SIZE || channel.size() > Integer.MAX_VALUE) return null;
+
+            file = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()).order(ByteOrder.LITTLE_ENDIAN);
+        }
+
+        if (file.getInt(0) != REVIEW_MAGIC || file.getInt(4) != REVIEW_VERSION ||
+                file.getInt(8) < 0 || file.getInt(8) != (file.capacity() - HEADER_SIZE) / RECORD_SIZE ||
+                (file.capacity() - HEADER_SIZE) % RECORD_SIZE != 0) return null;
+
+        return file;
+    }
+
+    private void readRecords(ByteBuffer file, boolean isPartial) throws IOException {
+        final int recordCount = file.getInt(8);
+        final BitSet matchedRecords = new BitSet(recordCount);
+        Map<Long, Integer> recordIndices = null;
+
+        for (int i = 0; i < keys.length; ++i) {
+            int record = -1;
+
+            if (i < recordCount && file.getLong(getRecordOffset(i)) == keys[i] && !matchedRecords.get(i)) {
+                record = i;
+            } else {
+                if (recordIndices == null) {
+                    recordIndices = new HashMap<>();
+
+                    for (int j = recordCount - 1; j >= 0; --j) {
+                        recordIndices.put(file.getLong(getRecordOffset(j)), j);
+                    }
+                }
+
+                final Integer index = recordIndices.get(keys[i]);
+
+                if (index != null && !matchedRecords.get(index)) {
+                    record = index;
+                }
+            }
+
+            if (record == -1) continue;
+
+            final int offset = getRecordOffset(record);
+
+            matchedRecords.set(record);
+
+            eases[i] = file.getShort(offset + 20);
+            if (eases[i] == 0) continue;
+
+            dueTimes[i] = file.getLong(offset + 8);
+            intervals[i] = file.getInt(offset + 16);
+            repetitions[i] = file.getShort(offset + 22);
+        }
+
+        if (!isPartial) {
+            isChanged = matchedRecords.cardinality() < recordCount;
+
+            return;
+        }
+
+        for (int i = matchedRecords.nextClearBit(0); i < recordCount; i = matchedRecords.nextClearBit(i + 1)) {
+            final byte[] record = new byte[RECORD_SIZE];
+
+            file.position(getRecordOffset(i));
+            file.get(record);
+
+            unmatchedRecords.write(record);
+            ++unmatchedRecordCount;
+        }
+    }
+
+    private static int getRecordOffset(int record) {
+        return HEADER_SIZE + record * RECORD_SIZE;
+    }
+
+    private void buildHeap(Random random) {
+        for (int i = 0; i < heap.length; ++i) {
+            final int index = random.nextInt(i + 1);
+
+            heap[i] = heap[index];
+            heap[index] = i;
+        }
+
+        heapSize = heap.length;
+
+        for (int i = 0; i < heapSize; ++i) {
+            heapPositions[heap[i]] = i;
+        }
+
+        for (int i = heapSize / 2 - 1; i >= 0; --i) {
+            siftDown(i);
+        }
+    }
+
+    private void setHeap(int position, int index) {
+        heap[position] = index;
+        heapPositions[index] = position;
+    }
+
+    private void siftUp(int position) {
+        final int index = heap[position];
+
+        while (position > 0) {
+            final int parent = (position - 1) >>> 1;
+            if (dueTimes[heap[parent]] <= dueTimes[index]) break;
+
+            setHeap(position, heap[parent]);
+            position = parent;
+        }
+
+        setHeap(position, index);
+    }
+
+    private void siftDown(int position) {
+        final int index = heap[position];
+
+        while (true) {
+            int child = position * 2 + 1;
+            if (child >= heapSize) break;
+            else if (child + 1 < heapSize && dueTimes[heap[child + 1]] < dueTimes[heap[child]]) {
+                ++child;
+            }
+
+            if (dueTimes[heap[child]] >= dueTimes[index]) break;
+
+            setHeap(position, heap[child]);
+            position = child;
+        }
+
+        setHeap(position, index);
+    }
+
+    int poll() {
+        if (heapSize == 0) return -1;
+
+        final int index = heap[0];
+
+        heapPositions[index] = -1;
+
+        if (--heapSize > 0) {
+            setHeap(0, heap[heapSize]);
+            siftDown(0);
+        }
+
+        return index;
+    }
+
+    int getInterval(int index) {
+        return intervals[index];
+    }
+
+    void review(int index, boolean isCorrect, long now) {
+        final int quality = isCorrect ? CORRECT_QUALITY : WRONG_QUALITY;
+        final int ease = eases[index] != 0 ? eases[index] : INITIAL_EASE;
+
+        if (isCorrect && dueTimes[index] > now) {
+            dueTimes[index] = Math.max(dueTimes[index], now + intervals[index] * DAY);
+        } else {
+            eases[index] = (short)Math.max(MIN_EASE, ease + 10 - (5 - quality) * (8 + (5 - quality) * 2));
+
+            if (!isCorrect) {
+                intervals[index] = 0;
+                repetitions[index] = 0;
+                dueTimes[index] = now + RELEARNING_DELAY;
+            } else {
+                if (repetitions[index] == 0) {
+                    intervals[index] = 1;
+                } else if (repetitions[index] == 1) {
+                    intervals[index] = 6;
+                } else {
+                    intervals[index] = (int)Math.min(MAX_INTERVAL, Math.round(intervals[index] * ease / 100.0));
+                }
+
+                repetitions[index] = (short)Math.min(Short.MAX_VALUE, repetitions[index] + 1);
+                dueTimes[index] = now + intervals[index] * DAY;
+            }
+        }
+
+        final int position = heapPositions[index];
+
+        if (position == -1) {
+            setHeap(heapSize, index);
+            siftUp(heapSize++);
+        } else {
+            siftUp(position);
+            siftDown(heapPositions[index]);
+        }
+
+        isChanged = true;
+    }
+
+    CompletableFuture<Void> save() throws IOException {
+        if (!isChanged) return CompletableFuture.completedFuture(null);
+
+        final int recordCount = keys.length + unmatchedRecordCount;
+        final BinaryStream stream = new BinaryStream(HEADER_SIZE + recordCount * RECORD_SIZE);
+
+        stream.writeInt(REVIEW_MAGIC);
+        stream.writeInt(REVIEW_VERSION);
+        stream.writeInt(recordCount);
+
+        for (int i = 0; i < keys.length; ++i) {
+            stream.writeLong(keys[i]);
+            stream.writeLong(eases[i] != 0 ? dueTimes[i] : 0);
+            stream.writeInt(intervals[i]);
+            stream.writeInt((repetitions[i] << 16) | (eases[i] & 0xFFFF));
+        }
+
+        stream.write(unmatchedRecords);
+
+        final ByteBuffer buffer = stream.toByteBuffer();
+        final byte[] bytes = new byte[buffer.remaining()];
+
+        buffer.get(bytes);
+
+        isChanged = false;
+
+        return VocabularyPersistence.getInstance().writeFile(path, bytes);
+    }
+}
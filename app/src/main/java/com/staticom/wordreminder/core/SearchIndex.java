@@ -0,0 +1,334 @@
+package com.staticom.wordreminder.core;
+
+import com.staticom.wordreminder.utility.BinaryStream;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+class SearchIndex {
+
+    private static class Postings {
+
+        private int[] ids = new int[4];
+        private int size;
+
+        public void add(int id) {
+            if (size > 0 && ids[size - 1] == id) return;
+            else if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+
+            ids[size++] = id;
+        }
+    }
+
+    static final int GRAM_LENGTH = 3;
+
+    private static final int MIN_STALE_LIMIT = 1024;
+
+    private final SearchMode mode;
+
+    private WordSnapshot[] words = new WordSnapshot[16];
+    private int wordCount;
+    private int removedWordCount;
+    private Map<WordSnapshot, Integer> ids = new IdentityHashMap<>();
+    private final Map<Long, Postings> postings = new HashMap<>();
+    private boolean isOrdered = true;
+
+    private VocabularySnapshot snapshot;
+    private SearchIndexFile.Table table;
+
+    private SearchIndex(VocabularySnapshot snapshot, SearchMode mode) {
+        this.snapshot = snapshot;
+        this.mode = mode;
+    }
+
+    static SearchIndex build(VocabularySnapshot snapshot, SearchMode mode) {
+        final SearchIndex index = new SearchIndex(snapshot, mode);
+
+        for (int i = 0; i < snapshot.size(); ++i) {
+            index.addWord(snapshot.get(i));
+        }
+
+        return index;
+    }
+
+    static SearchIndex load(VocabularySnapshot snapshot, SearchMode mode, SearchIndexFile.Table table) {
+        final SearchIndex index = load(snapshot.getWords().toArray(new WordSnapshot[0]), mode, table);
+
+        index.snapshot = snapshot;
+
+        return index;
+    }
+
+    static SearchIndex load(WordSnapshot[] words, SearchMode mode, SearchIndexFile.Table table) {
+        final SearchIndex index = new SearchIndex(null, mode);
+
+        index.words = Arrays.copyOf(words, Math.max(16, words.length));
+        index.wordCount = words.length;
+        index.ids = null;
+        index.table = table;
+
+        for (final WordSnapshot word : words) {
+            if (word == null) {
+                ++index.removedWordCount;
+            }
+        }
+
+        return index;
+    }
+
+    SearchMode getMode() {
+        return mode;
+    }
+
+    boolean isStale() {
+        return removedWordCount > Math.max(MIN_STALE_LIMIT, (wordCount - removedWordCount) / 2);
+    }
+
+    private Map<WordSnapshot, Integer> getIds() {
+        if (ids == null) {
+            ids = new IdentityHashMap<>(wordCount);
+
+            for (int id = 0; id < wordCount; ++id) {
+                if (words[id] != null) {
+                    ids.put(words[id], id);
+                }
+            }
+        }
+
+        return ids;
+    }
+
+    static long getGram(String text, int index) {
+        return ((long)text.charAt(index) << 32) | ((long)text.charAt(index + 1) << 16) | text.charAt(index + 2);
+    }
+
+    private long[] getGrams(WordSnapshot word) {
+        final String[] texts = new String[word.getKeyCount()];
+        int length = 0;
+
+        for (int i = 0; i < texts.length; ++i) {
+            texts[i] = mode.getText(word.getKey(i));
+            length += texts[i].length();
+        }
+
+        final long[] grams = new long[length];
+        int count = 0;
+
+        for (final String text : texts) {
+            for (int i = 0; i + GRAM_LENGTH <= text.length(); ++i) {
+                grams[count++] = getGram(text, i);
+            }
+        }
+
+        Arrays.sort(grams, 0, count);
+
+        int uniqueCount = 0;
+
+        for (int i = 0; i < count; ++i) {
+            if (uniqueCount == 0 || grams[uniqueCount - 1] != grams[i]) {
+                grams[uniqueCount++] = grams[i];
+            }
+        }
+
+        return Arrays.copyOf(grams, uniqueCount);
+    }
+
+    private void addPostings(WordSnapshot word, int id) {
+        for (final long gram : getGrams(word)) {
+            Postings gramPostings = postings.get(gram);
+
+            if (gramPostings == null) {
+                gramPostings = new Postings();
+                postings.put(gram, gramPostings);
+            }
+
+            gramPostings.add(id);
+        }
+    }
+
+    private int addWord(WordSnapshot word) {
+        if (wordCount == words.length) {
+            words = Arrays.copyOf(words, wordCount * 2);
+        }
+
+        final int id = wordCount++;
+
+        words[id] = word;
+        getIds().put(word, id);
+
+        addPostings(word, id);
+
+        return id;
+    }
+
+    void update(VocabularySnapshot newSnapshot) {
+        if (snapshot == newSnapshot) return;
+
+        final Map<WordSnapshot, Integer> ids = getIds();
+        final BitSet liveIds = new BitSet(wordCount);
+        int lastId = -1;
+
+        isOrdered = true;
+
+        for (int i = 0; i < newSnapshot.size(); ++i) {
+            final WordSnapshot word = newSnapshot.get(i);
+            final Integer id = ids.get(word);
+            final int liveId = id != null ? id : addWord(word);
+
+            if (liveId < lastId) {
+                isOrdered = false;
+            }
+
+            liveIds.set(liveId);
+            lastId = liveId;
+        }
+
+        for (int id = liveIds.nextClearBit(0); id < wordCount; id = liveIds.nextClearBit(id + 1)) {
+            if (words[id] == null) continue;
+
+            ids.remove(words[id]);
+            words[id] = null;
+            ++removedWordCount;
+        }
+
+        snapshot = newSnapshot;
+    }
+
+    private int getPostingsSize(long gram) {
+        final Postings gramPostings = postings.get(gram);
+
+        return (gramPostings != null ? gramPostings.size : 0) + (table != null ? table.getPostingsSize(gram) : 0);
+    }
+
+    private long getRarestGram(String query) {
+        long rarestGram = getGram(query, 0);
+        int rarestSize = getPostingsSize(rarestGram);
+
+        for (int i = 1; rarestSize > 0 && i + GRAM_LENGTH <= query.length(); ++i) {
+            final long gram = getGram(query, i);
+            final int size = getPostingsSize(gram);
+
+            if (size < rarestSize) {
+                rarestGram = gram;
+                rarestSize = size;
+            }
+        }
+
+        return rarestGram;
+    }
+
+    int getCandidateCount(String query) {
+        return getPostingsSize(getRarestGram(query));
+    }
+
+    List<WordSnapshot> search(String query) {
+        final List<WordSnapshot> result = new ArrayList<>();
+
+        final long rarestGram = getRarestGram(query);
+        final Postings gramPostings = postings.get(rarestGram);
+        final BitSet candidates = new BitSet(wordCount);
+
+        if (gramPostings != null) {
+            for (int i = 0; i < gramPostings.size; ++i) {
+                candidates.set(gramPostings.ids[i]);
+            }
+        }
+
+        if (table != null) {
+            table.addPostings(rarestGram, candidates);
+        }
+
+        for (int id = candidates.nextSetBit(0); id != -1; id = candidates.nextSetBit(id + 1)) {
+            final WordSnapshot word = words[id];
+
+            if (word != null && word.matches(mode, query)) {
+                result.add(word);
+            }
+        }
+
+        if (!isOrdered) {
+            result.sort(Comparator.comparingInt(snapshot::getPosition));
+        }
+
+        return result;
+    }
+
+    private int[] getPositions(Postings gramPostings) {
+        final int[] positions = new int[gramPostings.size];
+        int count = 0;
+
+        for (int i = 0; i < gramPostings.size; ++i) {
+            final WordSnapshot word = words[gramPostings.ids[i]];
+
+            if (word != null) {
+                positions[count++] = snapshot.getPosition(word);
+            }
+        }
+
+        Arrays.sort(positions, 0, count);
+
+        return Arrays.copyOf(positions, count);
+    }
+
+    void write(BinaryStream stream) throws IOException {
+        final Map<Long, int[]> positions = new HashMap<>();
+
+        for (final Map.Entry<Long, Postings> entry : postings.entrySet()) {
+            final int[] gramPositions = getPositions(entry.getValue());
+
+            if (gramPositions.length > 0) {
+                positions.put(entry.getKey(), gramPositions);
+            }
+        }
+
+        final long[] grams = new long[positions.size()];
+        int gramCount = 0;
+
+        for (final long gram : positions.keySet()) {
+            grams[gramCount++] = gram;
+        }
+
+        Arrays.sort(grams);
+
+        final BinaryStream postingsStream = new BinaryStream(grams.length * 4);
+        final int[] offsets = new int[grams.length + 1];
+
+        postingsStream.setCompactEncoding(true);
+
+        for (int i = 0; i < grams.length; ++i) {
+            int previousPosition = 0;
+
+            for (final int position : positions.get(grams[i])) {
+                postingsStream.writeVarInt(position - previousPosition);
+                previousPosition = position;
+            }
+
+            offsets[i + 1] = postingsStream.getPosition();
+        }
+
+        stream.writeInt(grams.length);
+
+        for (final long gram : grams) {
+            stream.writeLong(gram);
+        }
+
+        for (final long gram : grams) {
+            stream.writeInt(positions.get(gram).length);
+        }
+
+        for (final int offset : offsets) {
+            stream.writeInt(offset);
+        }
+
+        stream.write(postingsStream);
+    }
+}
@@ -0,0 +1,260 @@
+package com.staticom.wordreminder.core;
+
+import com.staticom.wordreminder.utility.AtomicFileWriter;
+import com.staticom.wordreminder.utility.BinaryStream;
+import com.staticom.wordreminder.utility.IdentityIndexMap;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.CRC32C;
+
+class SearchIndexFile {
+
+    static class Table {
+
+        private final ByteBuffer buffer;
+        private final int wordCount;
+        private final int gramCount;
+        private final int gramsOffset;
+        private final int sizesOffset;
+        private final int offsetsOffset;
+        private final int postingsOffset;
+        private final int postingsLength;
+
+        private Table(ByteBuffer buffer, int wordCount, int gramCount, int offset, int postingsLength) {
+            this.buffer = buffer;
+            this.wordCount = wordCount;
+            this.gramCount = gramCount;
+            this.postingsLength = postingsLength;
+
+            gramsOffset = offset + 4;
+            sizesOffset = gramsOffset + gramCount * 8;
+            offsetsOffset = sizesOffset + gramCount * 4;
+            postingsOffset = offsetsOffset + (gramCount + 1) * 4;
+        }
+
+        private static Table read(ByteBuffer buffer, int offset, int wordCount) {
+            if (buffer.capacity() - offset < 4) return null;
+
+            final int gramCount = buffer.getInt(offset);
+            final long postingsOffset = offset + 4 + gramCount * 16L + 4;
+            if (gramCount < 0 || postingsOffset > buffer.capacity()) return null;
+
+            final int postingsLength = buffer.getInt((int)postingsOffset - 4);
+            if (postingsLength < 0 || postingsOffset + postingsLength > buffer.capacity()) return null;
+
+            return new Table(buffer, wordCount, gramCount, offset, postingsLength);
+        }
+
+        private int getEnd() {
+            return postingsOffset + postingsLength;
+        }
+
+        private int find(long gram) {
+            int low = 0, high = gramCount - 1;
+
+            while (low <= high) {
+                final int middle = (low + high) >>> 1;
+                final long middleGram = buffer.getLong(gramsOffset + middle * 8);
+
+                if (middleGram < gram) {
+                    low = middle + 1;
+                } else if (middleGram > gram) {
+                    high = middle - 1;
+                } else return middle;
+            }
+
+            return -1;
+        }
+
+        private int getOffset(int index) {
+            return Math.max(0, Math.min(postingsLength, buffer.getInt(offsetsOffset + index * 4)));
+        }
+
+        int getPostingsSize(long gram) {
+            final int index = find(gram);
+            if (index == -1) return 0;
+
+            return Math.max(0, buffer.getInt(sizesOffset + index * 4));
+        }
+
+        void addPostings(long gram, BitSet ids) {
+            final int index = find(gram);
+            if (index == -1) return;
+
+            final int size = buffer.getInt(sizesOffset + index * 4);
+            final int end = postingsOffset + getOffset(index + 1);
+            int position = postingsOffset + getOffset(index);
+            int id = 0;
+
+            for (int i = 0; i < size && position < end; ++i) {
+                int delta = 0;
+
+                for (int shift = 0; position < end && shift < 35; shift += 7) {
+                    final byte b = buffer.get(position++);
+
+                    delta |= (b & 0x7F) << shift;
+                    if (b >= 0) break;
+                }
+
+                id += delta;
+
+                if (id >= 0 && id < wordCount) {
+                    ids.set(id);
+                }
+            }
+        }
+
+        BitSet getCandidates(String query) {
+            long rarestGram = SearchIndex.getGram(query, 0);
+            int rarestSize = getPostingsSize(rarestGram);
+
+            for (int i = 1; rarestSize > 0 && i + SearchIndex.GRAM_LENGTH <= query.length(); ++i) {
+                final long gram = SearchIndex.getGram(query, i);
+                final int size = getPostingsSize(gram);
+
+                if (size < rarestSize) {
+                    rarestGram = gram;
+                    rarestSize = size;
+                }
+            }
+
+            final BitSet candidates = new BitSet(wordCount);
+
+            addPostings(rarestGram, candidates);
+
+            return candidates;
+        }
+    }
+
+    private static final String INDEX_SUFFIX = ".index";
+    private static final int INDEX_MAGIC = 0x58495257;
+    private static final int INDEX_VERSION = 2;
+    private static final int HEADER_SIZE = 24;
+
+    private final Table[] tables;
+
+    private SearchIndexFile(Table[] tables) {
+        this.tables = tables;
+    }
+
+    static Path getIndexPath(Path path) {
+        return path.resolveSibling(path.getFileName() + INDEX_SUFFIX);
+    }
+
+    static void delete(Path path) throws IOException {
+        Files.deleteIfExists(getIndexPath(path));
+    }
+
+    private static int getChecksum(ByteBuffer file) {
+        final CRC32C checksum = new CRC32C();
+
+        checksum.update(file.duplicate());
+
+        return (int)checksum.getValue();
+    }
+
+    static SearchIndexFile open(Path path, ByteBuffer file, int wordCount) throws IOException {
+        final Path indexPath = getIndexPath(path);
+        if (!Files.exists(indexPath)) return null;
+
+        final ByteBuffer buffer;
+
+        try (final FileChannel channel = FileChannel.open(indexPath, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_SIZE || channel.size() > Integer.MAX_VALUE) return null;
+
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()).order(ByteOrder.LITTLE_ENDIAN);
+        }
+
+        if (buffer.getInt(0) != INDEX_MAGIC || buffer.getInt(4) != INDEX_VERSION ||
+                buffer.getLong(8) != file.remaining() || buffer.getInt(20) != wordCount ||
+                buffer.getInt(16) != getChecksum(file)) return null;
+
+        final Table[] tables = new Table[SearchMode.values().length];
+        int offset = HEADER_SIZE;
+
+        for (int i = 0; i < tables.length; ++i) {
+            tables[i] = Table.read(buffer, offset, wordCount);
+            if (tables[i] == null) return null;
+
+            offset = tables[i].getEnd();
+        }
+
+        if (offset != buffer.capacity()) return null;
+
+        return new SearchIndexFile(tables);
+    }
+
+    static void load(Path path, ByteBuffer file, Vocabulary vocabulary) throws IOException {
+        final SearchIndexFile indexFile = open(path, file, vocabulary.getWords().size());
+
+        if (indexFile != null) {
+            indexFile.load(vocabulary, vocabulary.getWords(), Collections.emptySet());
+        }
+    }
+
+    void load(Vocabulary vocabulary, List<Word> indexedWords, Set<Word> changedWords) {
+        final VocabularySnapshot snapshot = vocabulary.getSnapshot();
+        if (!snapshot.isIndexable()) return;
+
+        if (changedWords.isEmpty() && indexedWords.size() == snapshot.size()) {
+            for (final SearchMode mode : SearchMode.values()) {
+                vocabulary.getSearchIndices().setSearchIndex(SearchIndex.load(snapshot, mode, getTable(mode)));
+            }
+
+            return;
+        }
+
+        final IdentityIndexMap positions = vocabulary.getWordPositions();
+        final WordSnapshot[] words = new WordSnapshot[indexedWords.size()];
+
+        for (int i = 0; i < words.length; ++i) {
+            final Word word = indexedWords.get(i);
+            final int position = changedWords.contains(word) ? -1 : positions.get(word);
+
+            if (position != -1) {
+                words[i] = snapshot.get(position);
+            }
+        }
+
+        for (final SearchMode mode : SearchMode.values()) {
+            vocabulary.getSearchIndices().setSearchIndex(SearchIndex.load(words, mode, getTable(mode)));
+        }
+    }
+
+    static void write(Path path, ByteBuffer file, VocabularySnapshot snapshot) throws IOException {
+        if (!snapshot.isIndexable()) return;
+
+        final BinaryStream stream = new BinaryStream(HEADER_SIZE);
+
+        stream.writeInt(INDEX_MAGIC);
+        stream.writeInt(INDEX_VERSION);
+        stream.writeLong(file.remaining());
+        stream.writeInt(getChecksum(file));
+        stream.writeInt(snapshot.size());
+
+        for (final SearchMode mode : SearchMode.values()) {
+            SearchIndex.build(snapshot, mode).write(stream);
+        }
+
+        try (final AtomicFileWriter writer = new AtomicFileWriter(getIndexPath(path))) {
+            stream.writeTo(writer.getStream());
+
+            writer.sync();
+            writer.commit();
+        }
+    }
+
+    Table getTable(SearchMode mode) {
+        return tables[mode.ordinal()];
+    }
+}
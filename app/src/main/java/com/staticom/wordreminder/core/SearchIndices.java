@@ -0,0 +1,66 @@
+package com.staticom.wordreminder.core;
+
+import java.util.ArrayList;
+import java.util.List;
+
+class SearchIndices {
+
+    private final SearchIndex[] searchIndices = new SearchIndex[SearchMode.values().length];
+    private FuzzyIndex fuzzyIndex;
+
+    synchronized void setSearchIndex(SearchIndex searchIndex) {
+        searchIndices[searchIndex.getMode().ordinal()] = searchIndex;
+    }
+
+    private SearchIndex getSearchIndex(VocabularySnapshot snapshot, SearchMode mode) {
+        SearchIndex searchIndex = searchIndices[mode.ordinal()];
+
+        if (searchIndex != null) {
+            searchIndex.update(snapshot);
+        }
+
+        if (searchIndex == null || searchIndex.isStale()) {
+            searchIndex = SearchIndex.build(snapshot, mode);
+            searchIndices[mode.ordinal()] = searchIndex;
+        }
+
+        return searchIndex;
+    }
+
+    synchronized List<WordSnapshot> searchWords(VocabularySnapshot snapshot, String normalizedQuery,
+                                                List<WordSnapshot> previousResult) {
+        final SearchMode mode = SearchMode.of(normalizedQuery);
+        final String query = mode.getQuery(normalizedQuery);
+
+        final SearchIndex searchIndex = query.length() >= SearchIndex.GRAM_LENGTH && snapshot.isIndexable() ?
+                getSearchIndex(snapshot, mode) : null;
+        if (searchIndex != null &&
+                (previousResult == null || searchIndex.getCandidateCount(query) < previousResult.size())) {
+            return searchIndex.search(query);
+        }
+
+        final List<WordSnapshot> result = new ArrayList<>();
+
+        for (final WordSnapshot word : previousResult != null ? previousResult : snapshot.getWords()) {
+            if (word.matches(mode, query)) {
+                result.add(word);
+            }
+        }
+
+        return result;
+    }
+
+    synchronized List<WordSnapshot> fuzzySearch(VocabularySnapshot snapshot, String normalizedQuery, int maxDistance) {
+        final String query = SearchMode.PLAIN.getQuery(normalizedQuery);
+
+        if (!snapshot.isIndexable()) return FuzzyIndex.build(snapshot).search(query, maxDistance);
+
+        if (fuzzyIndex == null) {
+            fuzzyIndex = FuzzyIndex.build(snapshot);
+        } else {
+            fuzzyIndex.update(snapshot);
+        }
+
+        return fuzzyIndex.search(query, maxDistance);
+    }
+}
@@ -0,0 +1,42 @@
+package com.staticom.wordreminder.core;
+
+import com.staticom.wordreminder.utility.Hangul;
+import com.staticom.wordreminder.utility.TextNormalizer;
+
+enum SearchMode {
+    PLAIN,
+    JAMO,
+    CHOSUNG;
+
+    static SearchMode of(String normalizedQuery) {
+        if (Hangul.isChosung(normalizedQuery)) return CHOSUNG;
+        else if (Hangul.containsHangul(normalizedQuery)) return JAMO;
+        else return PLAIN;
+    }
+
+    static boolean isRefinement(String normalizedQuery, String previousNormalizedQuery) {
+        final SearchMode mode = of(normalizedQuery);
+        if (mode != of(previousNormalizedQuery)) return false;
+
+        return mode.getQuery(normalizedQuery).contains(mode.getQuery(previousNormalizedQuery));
+    }
+
+    String getQuery(String normalizedQuery) {
+        if (this == JAMO) return Hangul.toJamo(TextNormalizer.fold(normalizedQuery));
+        else if (this == PLAIN) return TextNormalizer.fold(normalizedQuery);
+        else return normalizedQuery;
+    }
+
+    String getText(TextNormalizer.Key key) {
+        switch (this) {
+            case JAMO:
+                return key.getJamoText();
+
+            case CHOSUNG:
+                return key.getChosungText();
+
+            default:
+                return key.getFoldedText();
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.staticom.wordreminder.core;
+
+import com.staticom.wordreminder.utility.TextNormalizer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.PriorityQueue;
+
+class SearchRanker {
+
+    private static class ScoredWord implements Comparable<ScoredWord> {
+
+        private final WordSnapshot word;
+        private final int score;
+        private final int index;
+
+        public ScoredWord(WordSnapshot word, int score, int index) {
+            this.word = word;
+            this.score = score;
+            this.index = index;
+        }
+
+        @Override
+        public int compareTo(ScoredWord other) {
+            if (score != other.score) return Integer.compare(score, other.score);
+            else return Integer.compare(other.index, index);
+        }
+    }
+
+    private enum Field {
+        WORD(3),
+        MEANING(2),
+        PRONUNCIATION(1),
+        EXAMPLE(0);
+
+        private final int weight;
+
+        Field(int weight) {
+            this.weight = weight;
+        }
+
+        TextNormalizer.Key getKey(WordSnapshot word, int meaningIndex) {
+            switch (this) {
+                case WORD:
+                    return word.getWordKey();
+
+                case MEANING:
+                    return word.getMeaningKey(meaningIndex);
+
+                case PRONUNCIATION:
+                    return word.getPronunciationKey(meaningIndex);
+
+                default:
+                    return word.getExampleKey(meaningIndex);
+            }
+        }
+    }
+
+    private static final Field[] MEANING_FIELDS = {Field.MEANING, Field.PRONUNCIATION, Field.EXAMPLE};
+
+    private static final int EXACT_MATCH = 3;
+    private static final int PREFIX_MATCH = 2;
+    private static final int INFIX_MATCH = 1;
+    private static final int NO_MATCH = 0;
+
+    private static final int MATCH_KINDS = 4;
+
+    private final SearchMode mode;
+    private final String query;
+
+    SearchRanker(String normalizedQuery) {
+        mode = SearchMode.of(normalizedQuery);
+        query = mode.getQuery(normalizedQuery);
+    }
+
+    private int getMatch(TextNormalizer.Key key) {
+        final String text = mode.getText(key);
+
+        if (text.equals(query)) return EXACT_MATCH;
+        else if (text.startsWith(query)) return PREFIX_MATCH;
+        else if (text.contains(query)) return INFIX_MATCH;
+        else return NO_MATCH;
+    }
+
+    private static int getScore(Field field, int match) {
+        return match != NO_MATCH ? field.weight * MATCH_KINDS + match : 0;
+    }
+
+    int getScore(WordSnapshot word) {
+        final int wordMatch = getMatch(Field.WORD.getKey(word, 0));
+        if (wordMatch != NO_MATCH) return getScore(Field.WORD, wordMatch);
+
+        for (final Field field : MEANING_FIELDS) {
+            int match = NO_MATCH;
+
+            for (int i = 0; i < word.getMeaningCount(); ++i) {
+                match = Math.max(match, getMatch(field.getKey(word, i)));
+                if (match == EXACT_MATCH) break;
+            }
+
+            if (match != NO_MATCH) return getScore(field, match);
+        }
+
+        return 0;
+    }
+
+    List<WordSnapshot> getTopWords(List<WordSnapshot> words, int count) {
+        if (count <= 0) return new ArrayList<>();
+
+        final PriorityQueue<ScoredWord> topWords = new PriorityQueue<>(Math.min(count, words.size()) + 1);
+
+        for (int i = 0; i < words.size(); ++i) {
+            final int score = getScore(words.get(i));
+
+            if (topWords.size() < count) {
+                topWords.add(new ScoredWord(words.get(i), score, i));
+            } else if (score > topWords.peek().score) {
+                topWords.poll();
+                topWords.add(new ScoredWord(words.get(i), score, i));
+            }
+        }
+
+        final List<WordSnapshot> result = new ArrayList<>(topWords.size());
+
+        while (!topWords.isEmpty()) {
+            result.add(topWords.poll().word);
+        }
+
+        Collections.reverse(result);
+
+        return result;
+    }
+}
@@ -0,0 +1,103 @@
+package com.staticom.wordreminder.core;
+
+import com.staticom.wordreminder.utility.IdentityIndexMap;
+
+import java.util.Arrays;
+import java.util.List;
+
+public class SearchResult {
+
+    interface IndicesLoader {
+        int[] load();
+    }
+
+    private final Vocabulary vocabulary;
+    private final int size;
+    private volatile int[] indices;
+    private IndicesLoader remainingIndicesLoader;
+
+    SearchResult(Vocabulary vocabulary, int[] indices) {
+        this(vocabulary, indices, indices.length, null);
+    }
+
+    SearchResult(Vocabulary vocabulary, int[] pageIndices, int size, IndicesLoader remainingIndicesLoader) {
+        this.vocabulary = vocabulary;
+        this.size = size;
+        this.remainingIndicesLoader = remainingIndicesLoader;
+
+        indices = pageIndices;
+    }
+
+    static SearchResult of(Vocabulary vocabulary, IdentityIndexMap wordIndices, List<Word> words) {
+        final int[] indices = new int[words.size()];
+        int count = 0;
+
+        for (final Word word : words) {
+            final int index = wordIndices.get(word);
+
+            if (index != -1) {
+                indices[count++] = index;
+            }
+        }
+
+        return new SearchResult(vocabulary, count == indices.length ? indices : Arrays.copyOf(indices, count));
+    }
+
+    public Vocabulary getVocabulary() {
+        return vocabulary;
+    }
+
+    private synchronized int[] loadIndices() {
+        if (remainingIndicesLoader != null) {
+            final int[] remainingIndices = remainingIndicesLoader.load();
+            final int[] indices = Arrays.copyOf(this.indices, size);
+
+            System.arraycopy(remainingIndices, 0, indices, this.indices.length, size - this.indices.length);
+
+            this.indices = indices;
+            remainingIndicesLoader = null;
+        }
+
+        return indices;
+    }
+
+    private int[] getIndices(int position) {
+        final int[] indices = this.indices;
+
+        return position < indices.length ? indices : loadIndices();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int getIndex(int position) {
+        return getIndices(position)[position];
+    }
+
+    public Word getWord(int position) {
+        return vocabulary.getWord(getIndex(position));
+    }
+
+    public int indexOf(Word word) {
+        for (int i = 0; i < size; ++i) {
+            if (getWord(i) == word) return i;
+        }
+
+        return -1;
+    }
+
+    public boolean isSameWord(int position, SearchResult other, int otherPosition) {
+        return vocabulary == other.vocabulary && getIndex(position) == other.getIndex(otherPosition);
+    }
+
+    public Vocabulary toVocabulary() {
+        final Vocabulary result = new Vocabulary();
+
+        for (final int index : loadIndices()) {
+            result.addWordRef(vocabulary.getWord(index));
+        }
+
+        return result;
+    }
+}
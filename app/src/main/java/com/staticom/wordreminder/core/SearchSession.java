@@ -0,0 +1,99 @@
+package com.staticom.wordreminder.core;
+
+import com.staticom.wordreminder.utility.TextNormalizer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class SearchSession {
+
+    public interface OnSearchedListener {
+        void onSearched(String query, SearchResult searchResult);
+    }
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private final Executor callbackExecutor;
+    private final AtomicInteger generation = new AtomicInteger();
+
+    private static final int RANKED_RESULT_COUNT = 50;
+    private static final int MIN_FUZZY_QUERY_LENGTH = 4;
+    private static final int MIN_FUZZY_QUERY_LENGTH_FOR_TWO_EDITS = 8;
+
+    private VocabularySnapshot lastSnapshot;
+    private String lastQuery;
+    private List<WordSnapshot> lastResult;
+
+    public SearchSession(Executor callbackExecutor) {
+        this.callbackExecutor = callbackExecutor;
+    }
+
+    public void search(Vocabulary vocabulary, String query, OnSearchedListener listener) {
+        final int searchGeneration = generation.incrementAndGet();
+        final VocabularySnapshot snapshot = vocabulary.getSnapshot();
+
+        executor.execute(() -> {
+            if (generation.get() != searchGeneration) return;
+
+            final String normalizedQuery = TextNormalizer.normalize(query);
+            final List<WordSnapshot> result = searchWords(snapshot, normalizedQuery);
+            final List<WordSnapshot> page = result == lastResult ?
+                    new SearchRanker(normalizedQuery).getTopWords(result, RANKED_RESULT_COUNT) : result;
+            final SearchResult searchResult = snapshot.toSearchResult(page, result);
+
+            callbackExecutor.execute(() -> {
+                if (generation.get() != searchGeneration) return;
+                else if (vocabulary.isCurrent(snapshot)) {
+                    listener.onSearched(query, searchResult);
+                } else {
+                    final List<WordSnapshot> words = new ArrayList<>(page);
+
+                    words.addAll(VocabularySnapshot.getRemainingWords(page, result));
+
+                    listener.onSearched(query, vocabulary.toSearchResult(VocabularySnapshot.toWords(words)));
+                }
+            });
+        });
+    }
+
+    public void cancel() {
+        generation.incrementAndGet();
+    }
+
+    public void close() {
+        cancel();
+
+        executor.shutdown();
+    }
+
+    private static int getMaxFuzzyDistance(String normalizedQuery) {
+        if (normalizedQuery.length() < MIN_FUZZY_QUERY_LENGTH) return 0;
+        else if (normalizedQuery.length() < MIN_FUZZY_QUERY_LENGTH_FOR_TWO_EDITS) return 1;
+        else return 2;
+    }
+
+    private boolean canRefine(VocabularySnapshot snapshot, String normalizedQuery) {
+        return lastResult != null && lastSnapshot == snapshot && SearchMode.isRefinement(normalizedQuery, lastQuery);
+    }
+
+    private List<WordSnapshot> searchWords(VocabularySnapshot snapshot, String normalizedQuery) {
+        final List<WordSnapshot> result = snapshot.searchWords(normalizedQuery,
+                canRefine(snapshot, normalizedQuery) ? lastResult : null);
+
+        lastSnapshot = snapshot;
+        lastQuery = normalizedQuery;
+        lastResult = result;
+
+        final int maxDistance = getMaxFuzzyDistance(normalizedQuery);
+        if (result.isEmpty() && maxDistance > 0) {
+            lastResult = null;
+
+            return snapshot.fuzzySearch(normalizedQuery, maxDistance);
+        }
+
+        return result;
+    }
+}
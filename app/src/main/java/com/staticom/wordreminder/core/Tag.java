@@ -29,6 +29,10 @@ public class Tag implements Serializable {
 
     public void setTag(String tag) {
         this.tag = tag;
+
+        if (vocabulary != null) {
+            vocabulary.onTagChanged(this);
+        }
     }
 
     public List<Word> getWords() {
@@ -1,23 +1,29 @@
 package com.staticom.wordreminder.core;
 
 import com.staticom.wordreminder.utility.BinaryStream;
+import com.staticom.wordreminder.utility.IdentityIndexMap;
+import com.staticom.wordreminder.utility.TextNormalizer;
 
-import java.io.ByteArrayOutputStream;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.Serializable;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 public class Vocabulary implements Serializable {
 
-    private enum ContainerId {
+    enum ContainerId {
         HOMONYM_CONTAINER,
         EXAMPLE_CONTAINER,
         TAG_CONTAINER,
         RELATION_CONTAINER,
+        WORD_INDEX_CONTAINER,
 
         UNKNOWN,
     }
@@ -30,11 +36,28 @@ public class Vocabulary implements Serializable {
         void write(BinaryStream containerStream) throws IOException;
     }
 
+    static final int FORMAT_MAGIC = 0x564B5257;
+    static final int FORMAT_VERSION = 1;
+    static final int FLAG_COMPACT_ENCODING = 1;
+
+    private static final int WORD_INDEX_THRESHOLD = 1024;
+    private static final int MEMORY_STREAM_CAPACITY = 64 * 1024;
+
     private final List<Word> words = new ArrayList<>();
     private final List<Tag> tags = new ArrayList<>();
 
     private boolean hasUnreadableContainers;
 
+    private volatile VocabularyChanges changes;
+    private transient SearchIndices searchIndices;
+    private transient WordSnapshot[] wordSnapshots;
+    private transient boolean isWordSnapshotsShared;
+    private transient int foreignWordCount;
+    private transient VocabularySnapshot snapshot;
+    private transient IdentityIndexMap wordPositions;
+    private transient Map<String, Integer> wordIndices;
+    private transient boolean hasDuplicatedWords;
+
     public List<Word> getWords() {
         return Collections.unmodifiableList(words);
     }
@@ -47,7 +70,33 @@ public class Vocabulary implements Serializable {
         return words.contains(word);
     }
 
+    private Map<String, Integer> getWordIndices() {
+        if (wordIndices != null) return wordIndices;
+
+        final Map<String, Integer> newWordIndices = new HashMap<>();
+
+        hasDuplicatedWords = false;
+
+        for (int i = 0; i < words.size(); ++i) {
+            final Word word = words.get(i);
+            if (word.getVocabulary() != this) return null;
+
+            if (newWordIndices.putIfAbsent(word.getWord(), i) != null) {
+                hasDuplicatedWords = true;
+            }
+        }
+
+        return wordIndices = newWordIndices;
+    }
+
     public int indexOfWord(String word) {
+        final Map<String, Integer> wordIndices = getWordIndices();
+        if (wordIndices != null) {
+            final Integer index = wordIndices.get(word);
+
+            return index != null ? index : -1;
+        }
+
         for (int i = 0; i < words.size(); ++i) {
             if (words.get(i).getWord().equals(word)) return i;
         }
@@ -63,22 +112,46 @@ public class Vocabulary implements Serializable {
         return words.get(index);
     }
 
-    public void addWord(Word word) {
+    public synchronized void addWord(Word word) {
         word.setVocabulary(this);
 
         words.add(word);
+
+        onWordAdded(word);
     }
 
-    public void addWordRef(Word word) {
+    public synchronized void addWordRef(Word word) {
         words.add(word);
+
+        onWordAdded(word);
     }
 
-    public void removeWord(Word word) {
+    public synchronized void removeWord(Word word) {
         if (word.getVocabulary() == this) {
             word.setVocabulary(null);
         }
 
-        words.remove(word);
+        final int index = words.indexOf(word);
+        if (index == -1) return;
+
+        words.remove(index);
+
+        wordPositions = null;
+
+        removeWordSnapshot(index);
+
+        if (wordIndices != null) {
+            if (index == words.size() && !hasDuplicatedWords) {
+                wordIndices.remove(word.getWord());
+            } else {
+                wordIndices = null;
+            }
+        }
+
+        if (changes != null) {
+            changes.addOperation(VocabularyJournal.REMOVE_WORD, index, null);
+            changes.removeChangedWord(word);
+        }
     }
 
     public int getMeaningCount() {
@@ -109,127 +182,308 @@ public class Vocabulary implements Serializable {
 
     public void addTag(Tag tag) {
         tags.add(tag);
+
+        if (changes != null) {
+            changes.addOperation(VocabularyJournal.ADD_TAG, tags.size() - 1, tag.getTag());
+        }
     }
 
     public void removeTag(Tag tag) {
-        tags.remove(tag);
+        final int index = tags.indexOf(tag);
+        if (index == -1) return;
+
+        tags.remove(index);
+
+        if (changes != null) {
+            changes.addOperation(VocabularyJournal.REMOVE_TAG, index, null);
+        }
     }
 
     public boolean hasUnreadableContainers() {
         return hasUnreadableContainers;
     }
 
-    private static void writeContainer(BinaryStream fileStream,
-                                       ContainerId id, boolean require, ContainerWriter containerWriter) throws IOException {
-        if (!require) return;
+    VocabularyChanges getChanges() {
+        return changes;
+    }
+
+    void startTracking() {
+        changes = new VocabularyChanges();
+    }
+
+    void stopTracking() {
+        changes = null;
+    }
+
+    private void onWordAdded(Word word) {
+        if (wordPositions != null) {
+            wordPositions.putIfAbsent(word, words.size() - 1);
+        }
+
+        if (wordIndices != null) {
+            if (word.getVocabulary() != this) {
+                wordIndices = null;
+            } else if (wordIndices.putIfAbsent(word.getWord(), words.size() - 1) != null) {
+                hasDuplicatedWords = true;
+            }
+        }
+
+        addWordSnapshot(word);
+
+        if (changes != null) {
+            changes.addOperation(VocabularyJournal.ADD_WORD, words.size() - 1, word.getWord());
+            changes.addChangedWord(word);
+        }
+    }
+
+    void onWordRenamed(Word word, String oldWord) {
+        if (wordIndices == null) return;
+        else if (hasDuplicatedWords) {
+            wordIndices = null;
+
+            return;
+        }
+
+        final Integer index = wordIndices.remove(oldWord);
+
+        if (index == null || wordIndices.putIfAbsent(word.getWord(), index) != null) {
+            wordIndices = null;
+        }
+    }
+
+    void onWordChanged(Word word) {
+        replaceWordSnapshot(word);
+
+        if (changes != null) {
+            changes.addChangedWord(word);
+        }
+    }
+
+    void onTagChanged(Tag tag) {
+        if (changes == null) return;
+
+        final int index = tags.indexOf(tag);
+        if (index != -1) {
+            changes.addOperation(VocabularyJournal.RENAME_TAG, index, tag.getTag());
+        }
+    }
+
+    private static int writeContainer(BinaryStream fileStream, BinaryStream containerStream,
+                                      ContainerId id, boolean require, ContainerWriter containerWriter) throws IOException {
+        if (!require) return -1;
 
-        final ByteArrayOutputStream stream = new ByteArrayOutputStream();
-        final BinaryStream containerStream = new BinaryStream(stream);
+        containerStream.reset();
+        containerStream.setCompactEncoding(fileStream.isCompactEncoding());
+        containerStream.beginChecksum();
 
         containerWriter.write(containerStream);
 
-        final byte[] bytes = stream.toByteArray();
+        final int checksum = containerStream.endChecksum();
 
         fileStream.writeInt(id.ordinal());
-        fileStream.writeInt(bytes.length);
-        fileStream.write(bytes);
+        fileStream.writeInt(containerStream.getPosition());
+        fileStream.writeInt(checksum);
+
+        final int offset = fileStream.getPosition();
+
+        fileStream.write(containerStream);
+
+        return offset;
     }
 
     public void writeToFileStream(FileOutputStream stream) throws IOException {
-        final BinaryStream fileStream = new BinaryStream(stream);
+        writeToFileStream(stream, false);
+    }
 
-        boolean needHomonymContainer = false,
-                needExampleContainer = false,
-                needRelationContainer = false;
-        int containerCount = 0;
+    public void writeToFileStream(FileOutputStream stream, boolean compactEncoding) throws IOException {
+        try (final BinaryStream fileStream = new BinaryStream(stream)) {
+            getFileSnapshot().writeToBinaryStream(fileStream, compactEncoding);
+        }
+    }
 
-        final boolean needTagContainer = !getTags().isEmpty();
-        if (needTagContainer) {
-            ++containerCount;
+    BinaryStream writeToMemory(boolean compactEncoding) throws IOException {
+        return getFileSnapshot().writeToMemory(compactEncoding);
+    }
+
+    FileSnapshot getFileSnapshot() {
+        final Tag[] tags = this.tags.toArray(new Tag[0]);
+        final String[] tagNames = new String[tags.length];
+
+        for (int i = 0; i < tags.length; ++i) {
+            tagNames[i] = tags[i].getTag();
         }
 
-        fileStream.writeInt(words.size());
+        return new FileSnapshot(getSnapshot(), tags, tagNames);
+    }
 
-        for (final Word word : words) {
-            final Meaning mergedMeaning = word.mergeMeanings();
+    static final class FileSnapshot {
 
-            fileStream.writeString(word.getWord());
-            fileStream.writeString(mergedMeaning.getPronunciation());
-            fileStream.writeString(mergedMeaning.getMeaning());
+        private final VocabularySnapshot snapshot;
+        private final Tag[] tags;
+        private final String[] tagNames;
 
-            if (word.getMeanings().size() > 1 && !needHomonymContainer) {
-                needHomonymContainer = true;
-                ++containerCount;
-            }
+        private FileSnapshot(VocabularySnapshot snapshot, Tag[] tags, String[] tagNames) {
+            this.snapshot = snapshot;
+            this.tags = tags;
+            this.tagNames = tagNames;
+        }
+
+        VocabularySnapshot getSnapshot() {
+            return snapshot;
+        }
+
+        BinaryStream writeToMemory(boolean compactEncoding) throws IOException {
+            final BinaryStream stream = new BinaryStream(MEMORY_STREAM_CAPACITY);
+
+            writeToBinaryStream(stream, compactEncoding);
+
+            return stream;
+        }
 
-            if (word.hasExample() && !needExampleContainer) {
-                needExampleContainer = true;
+        private void writeToBinaryStream(BinaryStream fileStream, boolean compactEncoding) throws IOException {
+            final List<WordSnapshot> words = snapshot.getWords();
+            boolean needHomonymContainer = false,
+                    needExampleContainer = false,
+                    needRelationContainer = false;
+            int containerCount = 0;
+
+            final boolean needTagContainer = tags.length > 0;
+            if (needTagContainer) {
                 ++containerCount;
             }
 
-            if (word.hasRelations() && !needRelationContainer) {
-                needRelationContainer = true;
+            final WordIndex wordIndex;
+
+            if (words.size() >= WORD_INDEX_THRESHOLD) {
+                wordIndex = new WordIndex(words.size());
                 ++containerCount;
+            } else {
+                wordIndex = null;
             }
-        }
 
-        if (containerCount == 0) return;
+            fileStream.writeInt(FORMAT_MAGIC);
+            fileStream.writeInt(FORMAT_VERSION);
+            fileStream.writeInt(compactEncoding ? FLAG_COMPACT_ENCODING : 0);
+            fileStream.setCompactEncoding(compactEncoding);
 
-        fileStream.writeInt(containerCount);
+            fileStream.beginChecksum();
+            fileStream.writeInt(words.size());
 
-        writeContainer(fileStream, ContainerId.HOMONYM_CONTAINER, needHomonymContainer, containerStream -> {
-            for (final Word word : words) {
-                containerStream.writeInt(word.getMeanings().size());
+            for (int i = 0; i < words.size(); ++i) {
+                final WordSnapshot word = words.get(i);
 
-                for (final Meaning meaning : word.getMeanings()) {
-                    containerStream.writeString(meaning.getPronunciation());
-                    containerStream.writeString(meaning.getMeaning());
+                if (wordIndex != null) {
+                    wordIndex.setWordOffset(i, fileStream.getPosition());
                 }
-            }
-        });
 
-        writeContainer(fileStream, ContainerId.EXAMPLE_CONTAINER, needExampleContainer, containerStream -> {
-            for (final Word word : words) {
-                for (final Meaning meaning : word.getMeanings()) {
-                    containerStream.writeString(meaning.getExample());
+                fileStream.writeString(word.getText());
+                fileStream.writeString(word.getMergedPronunciation());
+                fileStream.writeString(word.getMergedMeaning());
+
+                if (word.getMeaningCount() > 1 && !needHomonymContainer) {
+                    needHomonymContainer = true;
+                    ++containerCount;
                 }
-            }
-        });
 
-        writeContainer(fileStream, ContainerId.TAG_CONTAINER, needTagContainer, containerStream -> {
-            containerStream.writeInt(tags.size());
+                if (word.hasExample() && !needExampleContainer) {
+                    needExampleContainer = true;
+                    ++containerCount;
+                }
 
-            for (final Tag tag : tags) {
-                containerStream.writeString(tag.getTag());
+                if (word.getRelationCount() > 0 && !needRelationContainer) {
+                    needRelationContainer = true;
+                    ++containerCount;
+                }
             }
 
-            for (final Word word : words) {
-                for (final Meaning meaning : word.getMeanings()) {
-                    containerStream.writeInt(meaning.getTags().size());
+            fileStream.writeInt(fileStream.endChecksum());
+            fileStream.writeInt(containerCount);
+
+            final BinaryStream containerBuffer = new BinaryStream(fileStream.getPosition());
 
-                    for (final Tag tag : meaning.getTags()) {
-                        containerStream.writeInt(tags.indexOf(tag));
+            final int homonymContainerOffset = writeContainer(fileStream, containerBuffer, ContainerId.HOMONYM_CONTAINER, needHomonymContainer, containerStream -> {
+                for (int i = 0; i < words.size(); ++i) {
+                    final WordSnapshot word = words.get(i);
+
+                    if (wordIndex != null) {
+                        wordIndex.setHomonymOffset(i, containerStream.getPosition());
+                    }
+
+                    containerStream.writeVarInt(word.getMeaningCount());
+
+                    for (int j = 0; j < word.getMeaningCount(); ++j) {
+                        containerStream.writeString(word.getPronunciation(j));
+                        containerStream.writeString(word.getMeaning(j));
                     }
                 }
-            }
-        });
+            });
+
+            final int exampleContainerOffset = writeContainer(fileStream, containerBuffer, ContainerId.EXAMPLE_CONTAINER, needExampleContainer, containerStream -> {
+                for (int i = 0; i < words.size(); ++i) {
+                    final WordSnapshot word = words.get(i);
 
-        writeContainer(fileStream, ContainerId.RELATION_CONTAINER, needRelationContainer, containerStream -> {
-            for (final Word word : words) {
-                containerStream.writeInt(word.getRelations().size());
+                    if (wordIndex != null) {
+                        wordIndex.setExampleOffset(i, containerStream.getPosition());
+                    }
 
-                for (final Relation relation : word.getRelations()) {
-                    containerStream.writeInt(words.indexOf(relation.getWord()));
-                    containerStream.writeString(relation.getRelation());
+                    for (int j = 0; j < word.getMeaningCount(); ++j) {
+                        containerStream.writeString(word.getExample(j));
+                    }
                 }
+            });
+
+            writeContainer(fileStream, containerBuffer, ContainerId.TAG_CONTAINER, needTagContainer, containerStream -> {
+                final IdentityIndexMap tagIndices = IdentityIndexMap.of(Arrays.asList(tags));
+
+                containerStream.writeVarInt(tagNames.length);
+
+                for (final String tagName : tagNames) {
+                    containerStream.writeString(tagName);
+                }
+
+                for (final WordSnapshot word : words) {
+                    for (int i = 0; i < word.getMeaningCount(); ++i) {
+                        final Tag[] meaningTags = word.getTags(i);
+
+                        containerStream.writeVarInt(meaningTags.length);
+
+                        for (final Tag tag : meaningTags) {
+                            containerStream.writeVarInt(tagIndices.get(tag));
+                        }
+                    }
+                }
+            });
+
+            writeContainer(fileStream, containerBuffer, ContainerId.RELATION_CONTAINER, needRelationContainer, containerStream -> {
+                final IdentityIndexMap wordIndices = IdentityIndexMap.of(VocabularySnapshot.toWords(words));
+
+                for (final WordSnapshot word : words) {
+                    containerStream.writeVarInt(word.getRelationCount());
+
+                    for (int i = 0; i < word.getRelationCount(); ++i) {
+                        containerStream.writeVarInt(wordIndices.get(word.getRelatedWord(i)));
+                        containerStream.writeString(word.getRelation(i));
+                    }
+                }
+            });
+
+            if (wordIndex != null) {
+                wordIndex.setHomonymContainerOffset(homonymContainerOffset);
+                wordIndex.setExampleContainerOffset(exampleContainerOffset);
+
+                writeContainer(fileStream, containerBuffer, ContainerId.WORD_INDEX_CONTAINER, true, wordIndex::write);
             }
-        });
+        }
     }
 
-    private static ContainerId castToContainerId(int id) {
+    static ContainerId castToContainerId(int id) {
         return ContainerId.values()[Math.min(id, ContainerId.UNKNOWN.ordinal())];
     }
 
+    static int getContainerHeaderSize(int version) {
+        return version >= 1 ? 12 : 8;
+    }
+
     private static boolean readContainer(BinaryStream fileStream, boolean read,
                                          ContainerId id, ContainerId realId, ContainerReader containerReader) throws IOException {
         if (id == realId) {
@@ -240,10 +494,40 @@ public class Vocabulary implements Serializable {
     }
 
     public static Vocabulary readFromFileStream(FileInputStream stream) throws IOException {
-        final BinaryStream fileStream = new BinaryStream(stream);
+        try (final BinaryStream fileStream = new BinaryStream(stream)) {
+            return readFromBinaryStream(fileStream);
+        }
+    }
+
+    public static Vocabulary readFromByteBuffer(ByteBuffer buffer) throws IOException {
+        try (final BinaryStream fileStream = new BinaryStream(buffer)) {
+            return readFromBinaryStream(fileStream);
+        }
+    }
+
+    private static Vocabulary readFromBinaryStream(BinaryStream fileStream) throws IOException {
         final Vocabulary vocabulary = new Vocabulary();
 
-        final int wordCount = fileStream.readInt();
+        final int version;
+        int wordCount = fileStream.readInt();
+
+        if (wordCount == FORMAT_MAGIC) {
+            version = fileStream.readInt();
+            if (version > FORMAT_VERSION) throw new IOException("Unsupported vocabulary format version " + version);
+
+            final int flags = fileStream.readInt();
+            if ((flags & ~FLAG_COMPACT_ENCODING) != 0) throw new IOException("Unsupported vocabulary format flags");
+
+            fileStream.setCompactEncoding((flags & FLAG_COMPACT_ENCODING) != 0);
+            fileStream.beginChecksum();
+
+            wordCount = fileStream.readInt();
+        } else {
+            version = 0;
+        }
+
+        if (wordCount < 0) throw new IOException("Negative word count");
+
         for (int i = 0; i < wordCount; ++i) {
             final Word word = new Word(fileStream.readString());
             final String pronunciation = fileStream.readString();
@@ -256,22 +540,34 @@ public class Vocabulary implements Serializable {
 
         final int containerCount;
 
-        try {
+        if (version >= 1) {
+            if (fileStream.endChecksum() != fileStream.readInt()) throw new IOException("Corrupted word records");
+
             containerCount = fileStream.readInt();
-        } catch (final Exception e) {
-            return vocabulary;
+        } else {
+            try {
+                containerCount = fileStream.readInt();
+            } catch (final Exception e) {
+                return vocabulary;
+            }
         }
 
         for (int i = 0; i < containerCount; ++i) {
             final ContainerId id = castToContainerId(fileStream.readInt());
             final int length = fileStream.readInt();
+            final int checksum = version >= 1 ? fileStream.readInt() : 0;
+            final int offset = fileStream.getPosition();
             boolean read = false;
 
+            if (version >= 1 && id != ContainerId.UNKNOWN) {
+                fileStream.beginChecksum();
+            }
+
             read = readContainer(fileStream, read, ContainerId.HOMONYM_CONTAINER, id, containerStream -> {
                 for (final Word word : vocabulary.words) {
                     word.removeMeaning(0);
 
-                    final int meaningCount = containerStream.readInt();
+                    final int meaningCount = containerStream.readVarInt();
                     for (int j = 0; j < meaningCount; ++j) {
                         final String pronunciation = containerStream.readString();
                         final String meaning = containerStream.readString();
@@ -290,16 +586,19 @@ public class Vocabulary implements Serializable {
             });
 
             read = readContainer(fileStream, read, ContainerId.TAG_CONTAINER, id, containerStream -> {
-                final int tagCount = containerStream.readInt();
+                final int tagCount = containerStream.readVarInt();
                 for (int j = 0; j < tagCount; ++j) {
                     vocabulary.tags.add(new Tag(vocabulary, containerStream.readString()));
                 }
 
                 for (final Word word : vocabulary.words) {
                     for (final Meaning meaning : word.getMeanings()) {
-                        final int meaningTagCount = containerStream.readInt();
+                        final int meaningTagCount = containerStream.readVarInt();
                         for (int j = 0; j < meaningTagCount; ++j) {
-                            meaning.addTag(vocabulary.tags.get(containerStream.readInt()));
+                            final int tagIndex = containerStream.readVarInt();
+                            if (tagIndex < 0 || tagIndex >= vocabulary.tags.size()) throw new IOException("Invalid tag index");
+
+                            meaning.addTag(vocabulary.tags.get(tagIndex));
                         }
                     }
                 }
@@ -307,48 +606,186 @@ public class Vocabulary implements Serializable {
 
             read = readContainer(fileStream, read, ContainerId.RELATION_CONTAINER, id, containerStream -> {
                 for (final Word word : vocabulary.words) {
-                    final int relationCount = containerStream.readInt();
+                    final int relationCount = containerStream.readVarInt();
                     for (int j = 0; j < relationCount; ++j) {
-                        final int wordIndex = containerStream.readInt();
+                        final int wordIndex = containerStream.readVarInt();
                         final String relation = containerStream.readString();
+                        if (wordIndex < 0 || wordIndex >= vocabulary.words.size()) throw new IOException("Invalid related word index");
 
                         word.addRelation(vocabulary.words.get(wordIndex), relation);
                     }
                 }
             });
 
+            read = readContainer(fileStream, read, ContainerId.WORD_INDEX_CONTAINER, id, containerStream -> {
+                containerStream.skip(length);
+            });
+
             if (!read) {
                 fileStream.skip(length);
 
                 vocabulary.hasUnreadableContainers = true;
+            } else if (version >= 1) {
+                if (fileStream.getPosition() - offset != length) throw new IOException("Container length mismatch");
+                else if (fileStream.endChecksum() != checksum) throw new IOException("Corrupted container");
             }
         }
 
         return vocabulary;
     }
 
-    public Vocabulary search(String query) {
-        final String queryLowerCase = query.toLowerCase();
-        final Vocabulary searchResult = new Vocabulary();
+    private boolean isOwned(Word word) {
+        if (word.getVocabulary() != this) return false;
 
-        for (final Word word : words) {
-            if (word.getWord().toLowerCase().contains(queryLowerCase)) {
-                searchResult.addWordRef(word);
+        for (final Meaning meaning : word.getMeanings()) {
+            if (meaning.getWord() != word) return false;
+        }
 
-                continue;
-            }
+        return true;
+    }
 
-            for (final Meaning meaning : word.getMeanings()) {
-                if (meaning.getMeaning().toLowerCase().contains(queryLowerCase) ||
-                        meaning.getPronunciation().toLowerCase().contains(queryLowerCase) ||
-                        meaning.getExample().toLowerCase().contains(queryLowerCase)) {
-                    searchResult.addWordRef(word);
+    private WordSnapshot createWordSnapshot(Word word) {
+        final WordSnapshot wordSnapshot = new WordSnapshot(word, !isOwned(word));
 
-                    break;
-                }
+        if (wordSnapshot.isForeign()) {
+            ++foreignWordCount;
+        }
+
+        return wordSnapshot;
+    }
+
+    private void onWordSnapshotsChanged() {
+        snapshot = null;
+    }
+
+    private WordSnapshot[] getWritableWordSnapshots() {
+        if (isWordSnapshotsShared) {
+            wordSnapshots = wordSnapshots.clone();
+            isWordSnapshotsShared = false;
+        }
+
+        return wordSnapshots;
+    }
+
+    private synchronized void addWordSnapshot(Word word) {
+        if (wordSnapshots == null) return;
+
+        final int size = words.size();
+
+        if (size > wordSnapshots.length) {
+            wordSnapshots = Arrays.copyOf(wordSnapshots, Math.max(16, size + (size >> 1)));
+            isWordSnapshotsShared = false;
+        }
+
+        wordSnapshots[size - 1] = createWordSnapshot(word);
+
+        onWordSnapshotsChanged();
+    }
+
+    private synchronized void removeWordSnapshot(int index) {
+        if (wordSnapshots == null) return;
+
+        final WordSnapshot[] wordSnapshots = getWritableWordSnapshots();
+
+        if (wordSnapshots[index].isForeign()) {
+            --foreignWordCount;
+        }
+
+        System.arraycopy(wordSnapshots, index + 1, wordSnapshots, index, words.size() - index);
+        wordSnapshots[words.size()] = null;
+
+        onWordSnapshotsChanged();
+    }
+
+    private synchronized void replaceWordSnapshot(Word word) {
+        if (wordSnapshots == null) return;
+
+        final int index = getWordPositions().get(word);
+        if (index == -1) return;
+
+        final WordSnapshot[] wordSnapshots = getWritableWordSnapshots();
+
+        if (wordSnapshots[index].isForeign()) {
+            --foreignWordCount;
+        }
+
+        wordSnapshots[index] = createWordSnapshot(word);
+
+        onWordSnapshotsChanged();
+    }
+
+    synchronized SearchIndices getSearchIndices() {
+        if (searchIndices == null) {
+            searchIndices = new SearchIndices();
+        }
+
+        return searchIndices;
+    }
+
+    synchronized VocabularySnapshot getSnapshot() {
+        if (wordSnapshots == null || foreignWordCount > 0) {
+            wordSnapshots = new WordSnapshot[Math.max(16, words.size())];
+            foreignWordCount = 0;
+
+            for (int i = 0; i < words.size(); ++i) {
+                wordSnapshots[i] = createWordSnapshot(words.get(i));
             }
+
+            onWordSnapshotsChanged();
+        }
+
+        if (snapshot == null) {
+            snapshot = new VocabularySnapshot(this, getSearchIndices(), wordSnapshots, words.size(), foreignWordCount == 0);
+            isWordSnapshotsShared = true;
+        }
+
+        return snapshot;
+    }
+
+    synchronized boolean isCurrent(VocabularySnapshot snapshot) {
+        return this.snapshot == snapshot;
+    }
+
+    public List<Word> fuzzySearch(String query, int maxDistance) {
+        return VocabularySnapshot.toWords(getSnapshot().fuzzySearch(TextNormalizer.normalize(query), maxDistance));
+    }
+
+    public List<Word> rankedSearch(String query, int count) {
+        final String normalizedQuery = TextNormalizer.normalize(query);
+        final List<WordSnapshot> result = getSnapshot().searchWords(normalizedQuery, null);
+
+        return VocabularySnapshot.toWords(new SearchRanker(normalizedQuery).getTopWords(result, count));
+    }
+
+    private static Vocabulary createSearchResult(List<Word> words) {
+        final Vocabulary searchResult = new Vocabulary();
+
+        for (final Word word : words) {
+            searchResult.addWordRef(word);
         }
 
         return searchResult;
     }
-}
\ No newline at end of file
+
+    synchronized IdentityIndexMap getWordPositions() {
+        if (wordPositions == null) {
+            wordPositions = IdentityIndexMap.of(words);
+        }
+
+        return wordPositions;
+    }
+
+    synchronized SearchResult toSearchResult(List<Word> words) {
+        return SearchResult.of(this, getWordPositions(), words);
+    }
+
+    public SearchResult searchIndices(String query) {
+        final VocabularySnapshot snapshot = getSnapshot();
+
+        return snapshot.toSearchResult(snapshot.searchWords(TextNormalizer.normalize(query), null));
+    }
+
+    public Vocabulary search(String query) {
+        return createSearchResult(VocabularySnapshot.toWords(getSnapshot().searchWords(TextNormalizer.normalize(query), null)));
+    }
+}
@@ -0,0 +1,63 @@
+package com.staticom.wordreminder.core;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+class VocabularyChanges implements Serializable {
+
+    static class Operation implements Serializable {
+
+        private final int type;
+        private final int index;
+        private final String text;
+
+        public Operation(int type, int index, String text) {
+            this.type = type;
+            this.index = index;
+            this.text = text;
+        }
+
+        public int getType() {
+            return type;
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        public String getText() {
+            return text;
+        }
+    }
+
+    private final List<Operation> operations = new ArrayList<>();
+    private final Set<Word> changedWords = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    public boolean isEmpty() {
+        return operations.isEmpty() && changedWords.isEmpty();
+    }
+
+    public List<Operation> getOperations() {
+        return Collections.unmodifiableList(operations);
+    }
+
+    public void addOperation(int type, int index, String text) {
+        operations.add(new Operation(type, index, text));
+    }
+
+    public Set<Word> getChangedWords() {
+        return Collections.unmodifiableSet(changedWords);
+    }
+
+    public void addChangedWord(Word word) {
+        changedWords.add(word);
+    }
+
+    public void removeChangedWord(Word word) {
+        changedWords.remove(word);
+    }
+}
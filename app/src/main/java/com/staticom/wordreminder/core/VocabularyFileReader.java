@@ -0,0 +1,246 @@
+package com.staticom.wordreminder.core;
+
+import com.staticom.wordreminder.utility.BinaryStream;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+class VocabularyFileReader {
+
+    private final BinaryStream stream;
+    private final int version;
+    private final int wordsOffset;
+    private final int wordCount;
+
+    private int wordIndexOffset = -1;
+    private int homonymContainerOffset = -1, exampleContainerOffset = -1;
+    private WordIndex scannedWordIndex;
+
+    VocabularyFileReader(ByteBuffer buffer) throws IOException {
+        stream = new BinaryStream(buffer);
+
+        final int firstInt = stream.readInt();
+
+        if (firstInt == Vocabulary.FORMAT_MAGIC) {
+            version = stream.readInt();
+            if (version > Vocabulary.FORMAT_VERSION) throw new IOException("Unsupported vocabulary format version " + version);
+
+            final int flags = stream.readInt();
+            if ((flags & ~Vocabulary.FLAG_COMPACT_ENCODING) != 0) throw new IOException("Unsupported vocabulary format flags");
+
+            stream.setCompactEncoding((flags & Vocabulary.FLAG_COMPACT_ENCODING) != 0);
+
+            wordsOffset = stream.getPosition();
+            wordCount = stream.readInt();
+        } else {
+            version = 0;
+            wordsOffset = 0;
+            wordCount = firstInt;
+        }
+
+        if (wordCount < 0) throw new IOException("Negative word count");
+
+        if (!findWordIndex()) {
+            scanWordIndex();
+        }
+    }
+
+    private boolean findWordIndex() throws IOException {
+        final int minLength = WordIndex.HEADER_SIZE + WordIndex.TRAILER_SIZE;
+        final int containerHeaderSize = Vocabulary.getContainerHeaderSize(version);
+        final int minOffset = wordsOffset + 4 + containerHeaderSize;
+        final int end = stream.getLength();
+        if (end < minOffset + minLength) return false;
+
+        stream.seek(end - WordIndex.TRAILER_SIZE);
+
+        final int length = stream.readInt();
+        final int offset = end - length;
+        if (length < minLength || (length - minLength) % WordIndex.ENTRY_SIZE != 0 || offset < minOffset) return false;
+
+        stream.seek(offset - containerHeaderSize);
+
+        if (Vocabulary.castToContainerId(stream.readInt()) != Vocabulary.ContainerId.WORD_INDEX_CONTAINER ||
+                stream.readInt() != length || stream.readInt() != wordCount) return false;
+
+        homonymContainerOffset = stream.readInt();
+        exampleContainerOffset = stream.readInt();
+        wordIndexOffset = offset + WordIndex.HEADER_SIZE;
+
+        return true;
+    }
+
+    private int[] readContainerOffsets() throws IOException {
+        final int[] offsets = new int[Vocabulary.ContainerId.values().length];
+        int containerCount;
+
+        Arrays.fill(offsets, -1);
+
+        if (version >= 1) {
+            stream.readInt();
+
+            containerCount = stream.readInt();
+        } else {
+            try {
+                containerCount = stream.readInt();
+            } catch (final EOFException e) {
+                containerCount = 0;
+            }
+        }
+
+        for (int i = 0; i < containerCount; ++i) {
+            final Vocabulary.ContainerId id = Vocabulary.castToContainerId(stream.readInt());
+            final int length = stream.readInt();
+
+            if (version >= 1) {
+                stream.readInt();
+            }
+
+            offsets[id.ordinal()] = stream.getPosition();
+
+            stream.skip(length);
+        }
+
+        return offsets;
+    }
+
+    private void scanWordIndex() throws IOException {
+        final WordIndex wordIndex = new WordIndex(wordCount);
+
+        stream.seek(wordsOffset + 4);
+
+        for (int i = 0; i < wordCount; ++i) {
+            wordIndex.setWordOffset(i, stream.getPosition());
+
+            stream.skipString();
+            stream.skipString();
+            stream.skipString();
+        }
+
+        final int[] containerOffsets = readContainerOffsets();
+        final int homonymContainer = containerOffsets[Vocabulary.ContainerId.HOMONYM_CONTAINER.ordinal()];
+        final int exampleContainer = containerOffsets[Vocabulary.ContainerId.EXAMPLE_CONTAINER.ordinal()];
+
+        final int[] meaningCounts = new int[wordCount];
+
+        if (homonymContainer != -1) {
+            stream.seek(homonymContainer);
+
+            wordIndex.setHomonymContainerOffset(homonymContainer);
+
+            for (int i = 0; i < wordCount; ++i) {
+                wordIndex.setHomonymOffset(i, stream.getPosition() - homonymContainer);
+
+                meaningCounts[i] = stream.readVarInt();
+                for (int j = 0; j < meaningCounts[i]; ++j) {
+                    stream.skipString();
+                    stream.skipString();
+                }
+            }
+        }
+
+        if (exampleContainer != -1) {
+            stream.seek(exampleContainer);
+
+            wordIndex.setExampleContainerOffset(exampleContainer);
+
+            for (int i = 0; i < wordCount; ++i) {
+                wordIndex.setExampleOffset(i, stream.getPosition() - exampleContainer);
+
+                final int meaningCount = homonymContainer != -1 ? meaningCounts[i] : 1;
+                for (int j = 0; j < meaningCount; ++j) {
+                    stream.skipString();
+                }
+            }
+        }
+
+        scannedWordIndex = wordIndex;
+    }
+
+    private int readWordIndex(int index, int field) throws IOException {
+        stream.seek(wordIndexOffset + index * WordIndex.ENTRY_SIZE + field * 4);
+
+        return stream.readInt();
+    }
+
+    private int getWordOffset(int index) throws IOException {
+        if (scannedWordIndex != null) return scannedWordIndex.getWordOffset(index);
+        else return readWordIndex(index, 0);
+    }
+
+    private int getHomonymOffset(int index) throws IOException {
+        if (scannedWordIndex != null) return scannedWordIndex.getHomonymOffset(index);
+
+        final int offset = readWordIndex(index, 1);
+
+        return offset != -1 ? homonymContainerOffset + offset : -1;
+    }
+
+    private int getExampleOffset(int index) throws IOException {
+        if (scannedWordIndex != null) return scannedWordIndex.getExampleOffset(index);
+
+        final int offset = readWordIndex(index, 2);
+
+        return offset != -1 ? exampleContainerOffset + offset : -1;
+    }
+
+    int getWordCount() {
+        return wordCount;
+    }
+
+    int readTagCount() throws IOException {
+        if (wordCount > 0) {
+            stream.seek(getWordOffset(wordCount - 1));
+
+            stream.skipString();
+            stream.skipString();
+            stream.skipString();
+        } else {
+            stream.seek(wordsOffset + 4);
+        }
+
+        final int tagContainer = readContainerOffsets()[Vocabulary.ContainerId.TAG_CONTAINER.ordinal()];
+        if (tagContainer == -1) return 0;
+
+        stream.seek(tagContainer);
+
+        return stream.readVarInt();
+    }
+
+    Word readWord(int index) throws IOException {
+        final int homonymOffset = getHomonymOffset(index);
+        final int exampleOffset = getExampleOffset(index);
+
+        stream.seek(getWordOffset(index));
+
+        final Word word = new Word(stream.readString());
+        final String pronunciation = stream.readString();
+        final String meaning = stream.readString();
+
+        if (homonymOffset != -1) {
+            stream.seek(homonymOffset);
+
+            final int meaningCount = stream.readVarInt();
+            for (int i = 0; i < meaningCount; ++i) {
+                final String homonymPronunciation = stream.readString();
+                final String homonymMeaning = stream.readString();
+
+                word.addMeaning(new Meaning(homonymMeaning, homonymPronunciation));
+            }
+        } else {
+            word.addMeaning(new Meaning(meaning, pronunciation));
+        }
+
+        if (exampleOffset != -1) {
+            stream.seek(exampleOffset);
+
+            for (final Meaning m : word.getMeanings()) {
+                m.setExample(stream.readString());
+            }
+        }
+
+        return word;
+    }
+}
@@ -0,0 +1,277 @@
+package com.staticom.wordreminder.core;
+
+import com.staticom.wordreminder.utility.BinaryStream;
+import com.staticom.wordreminder.utility.IdentityIndexMap;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32C;
+
+class VocabularyJournal {
+
+    static final int ADD_WORD = 0;
+    static final int REMOVE_WORD = 1;
+    static final int PUT_WORD = 2;
+    static final int ADD_TAG = 3;
+    static final int REMOVE_TAG = 4;
+    static final int RENAME_TAG = 5;
+
+    static final long COMPACTION_THRESHOLD = 256 * 1024;
+
+    private static final String JOURNAL_SUFFIX = ".journal";
+    private static final int JOURNAL_MAGIC = 0x4C4A5257;
+    private static final int HEADER_SIZE = 20;
+    private static final int RECORD_HEADER_SIZE = 8;
+
+    static Path getJournalPath(Path path) {
+        return path.resolveSibling(path.getFileName() + JOURNAL_SUFFIX);
+    }
+
+    static void delete(Path path) throws IOException {
+        Files.deleteIfExists(getJournalPath(path));
+    }
+
+    private static long getLastModifiedTime(Path path) throws IOException {
+        return Files.getLastModifiedTime(path).toMillis();
+    }
+
+    static BinaryStream writeRecord(Vocabulary vocabulary) throws IOException {
+        final VocabularyChanges changes = vocabulary.getChanges();
+        final BinaryStream record = new BinaryStream(4096);
+
+        record.setCompactEncoding(true);
+        record.beginChecksum();
+
+        for (final VocabularyChanges.Operation operation : changes.getOperations()) {
+            record.writeVarInt(operation.getType());
+
+            switch (operation.getType()) {
+                case ADD_WORD:
+                case ADD_TAG:
+                    record.writeString(operation.getText());
+                    break;
+
+                case REMOVE_WORD:
+                case REMOVE_TAG:
+                    record.writeVarInt(operation.getIndex());
+                    break;
+
+                case RENAME_TAG:
+                    record.writeVarInt(operation.getIndex());
+                    record.writeString(operation.getText());
+                    break;
+            }
+        }
+
+        final IdentityIndexMap wordIndices = IdentityIndexMap.of(vocabulary.getWords());
+        final IdentityIndexMap tagIndices = IdentityIndexMap.of(vocabulary.getTags());
+
+        for (final Word word : changes.getChangedWords()) {
+            final int index = wordIndices.get(word);
+            if (index == -1) continue;
+
+            record.writeVarInt(PUT_WORD);
+            record.writeVarInt(index);
+            record.writeString(word.getWord());
+            record.writeVarInt(word.getMeanings().size());
+
+            for (final Meaning meaning : word.getMeanings()) {
+                record.writeString(meaning.getMeaning());
+                record.writeString(meaning.getPronunciation());
+                record.writeString(meaning.getExample());
+                record.writeVarInt(meaning.getTags().size());
+
+                for (final Tag tag : meaning.getTags()) {
+                    record.writeVarInt(tagIndices.get(tag));
+                }
+            }
+
+            record.writeVarInt(word.getRelations().size());
+
+            for (final Relation relation : word.getRelations()) {
+                record.writeVarInt(wordIndices.get(relation.getWord()));
+                record.writeString(relation.getRelation());
+            }
+        }
+
+        final int checksum = record.endChecksum();
+        final BinaryStream recordWithHeader = new BinaryStream(RECORD_HEADER_SIZE + record.getPosition());
+
+        recordWithHeader.writeInt(record.getPosition());
+        recordWithHeader.writeInt(checksum);
+        recordWithHeader.write(record);
+
+        return recordWithHeader;
+    }
+
+    static long append(Path path, List<BinaryStream> records) throws IOException {
+        final Path journalPath = getJournalPath(path);
+        final boolean hasJournal = Files.exists(journalPath);
+
+        try (final FileOutputStream stream = new FileOutputStream(journalPath.toFile(), true);
+             final BinaryStream journalStream = new BinaryStream(stream)) {
+            if (!hasJournal) {
+                journalStream.writeInt(JOURNAL_MAGIC);
+                journalStream.writeLong(Files.size(path));
+                journalStream.writeLong(getLastModifiedTime(path));
+            }
+
+            for (final BinaryStream record : records) {
+                journalStream.write(record);
+            }
+
+            journalStream.flush();
+
+            stream.getFD().sync();
+        }
+
+        return Files.size(journalPath);
+    }
+
+    static void replay(Path path, Vocabulary vocabulary) throws IOException {
+        final Path journalPath = getJournalPath(path);
+        if (!Files.exists(journalPath)) return;
+
+        final byte[] journal = Files.readAllBytes(journalPath);
+        final BinaryStream stream = new BinaryStream(ByteBuffer.wrap(journal));
+
+        if (journal.length < HEADER_SIZE || stream.readInt() != JOURNAL_MAGIC ||
+                stream.readLong() != Files.size(path) || stream.readLong() != getLastModifiedTime(path)) {
+            Files.delete(journalPath);
+
+            return;
+        }
+
+        int validLength = HEADER_SIZE;
+
+        while (journal.length - validLength >= RECORD_HEADER_SIZE) {
+            final int length = stream.readInt();
+            final int checksum = stream.readInt();
+            if (length < 0 || length > journal.length - validLength - RECORD_HEADER_SIZE) break;
+
+            final CRC32C recordChecksum = new CRC32C();
+
+            recordChecksum.update(journal, validLength + RECORD_HEADER_SIZE, length);
+            if ((int)recordChecksum.getValue() != checksum) break;
+
+            final BinaryStream record = new BinaryStream(
+                    ByteBuffer.wrap(journal, validLength + RECORD_HEADER_SIZE, length));
+
+            record.setCompactEncoding(true);
+
+            readRecord(record, vocabulary);
+
+            stream.skip(length);
+            validLength += RECORD_HEADER_SIZE + length;
+        }
+
+        if (validLength < journal.length) {
+            try (final FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.WRITE)) {
+                channel.truncate(validLength);
+            }
+        }
+    }
+
+    private static int readIndex(BinaryStream record, int size) throws IOException {
+        final int index = record.readVarInt();
+        if (index < 0 || index >= size) throw new IOException("Invalid journal record");
+
+        return index;
+    }
+
+    private static void readRecord(BinaryStream record, Vocabulary vocabulary) throws IOException {
+        while (record.getPosition() < record.getLength()) {
+            final int type = record.readVarInt();
+
+            switch (type) {
+                case ADD_WORD:
+                    vocabulary.addWord(new Word(record.readString()));
+                    break;
+
+                case REMOVE_WORD: {
+                    final Word word = vocabulary.getWord(readIndex(record, vocabulary.getWords().size()));
+
+                    for (final Meaning meaning : word.getMeanings()) {
+                        meaning.removeAllTags();
+                    }
+
+                    vocabulary.removeWord(word);
+                    break;
+                }
+
+                case PUT_WORD:
+                    readWord(record, vocabulary, vocabulary.getWord(readIndex(record, vocabulary.getWords().size())));
+                    break;
+
+                case ADD_TAG:
+                    vocabulary.addTag(new Tag(vocabulary, record.readString()));
+                    break;
+
+                case REMOVE_TAG: {
+                    final Tag tag = vocabulary.getTag(readIndex(record, vocabulary.getTags().size()));
+
+                    for (final Meaning meaning : new ArrayList<>(tag.getMeanings())) {
+                        meaning.removeTag(tag);
+                    }
+
+                    vocabulary.removeTag(tag);
+                    break;
+                }
+
+                case RENAME_TAG:
+                    vocabulary.getTag(readIndex(record, vocabulary.getTags().size())).setTag(record.readString());
+                    break;
+
+                default:
+                    throw new IOException("Unknown journal operation " + type);
+            }
+        }
+    }
+
+    private static void readWord(BinaryStream record, Vocabulary vocabulary, Word word) throws IOException {
+        word.setWord(record.readString());
+
+        while (!word.getMeanings().isEmpty()) {
+            word.getMeaning(0).removeAllTags();
+            word.removeMeaning(0);
+        }
+
+        while (word.hasRelations()) {
+            word.removeRelation(word.getRelations().size() - 1);
+        }
+
+        final int meaningCount = record.readVarInt();
+        for (int i = 0; i < meaningCount; ++i) {
+            final String meaning = record.readString();
+            final String pronunciation = record.readString();
+            final String example = record.readString();
+            final Meaning newMeaning = word.addMeaning(new Meaning(meaning, pronunciation, example));
+
+            final int tagCount = record.readVarInt();
+            for (int j = 0; j < tagCount; ++j) {
+                final int tagIndex = record.readVarInt();
+
+                if (tagIndex >= 0 && tagIndex < vocabulary.getTags().size()) {
+                    newMeaning.addTag(vocabulary.getTag(tagIndex));
+                }
+            }
+        }
+
+        final int relationCount = record.readVarInt();
+        for (int i = 0; i < relationCount; ++i) {
+            final int wordIndex = record.readVarInt();
+            final String relation = record.readString();
+
+            if (wordIndex >= 0 && wordIndex < vocabulary.getWords().size()) {
+                word.addRelation(vocabulary.getWord(wordIndex), relation);
+            }
+        }
+    }
+}
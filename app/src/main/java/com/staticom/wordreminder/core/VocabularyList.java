@@ -5,13 +5,12 @@ import org.json.JSONException;
 import org.json.JSONObject;
 
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public class VocabularyList {
 
@@ -43,22 +42,38 @@ public class VocabularyList {
         deletedVocabularyList.add(vocabulary);
     }
 
-    public void saveAndDeleteVocabulary() throws IOException {
+    public CompletableFuture<Void> saveAndDeleteVocabulary() throws IOException {
+        final List<CompletableFuture<Void>> futures = new ArrayList<>();
+
         for (final VocabularyMetadata vocabulary : deletedVocabularyList) {
-            try {
-                Files.delete(vocabulary.getPath());
-            } catch (final NoSuchFileException ignored) {
-            }
+            futures.add(vocabulary.deleteVocabulary());
         }
 
         deletedVocabularyList.clear();
 
+        final List<VocabularyMetadata> savedVocabularyList = new ArrayList<>();
+
         for (final VocabularyMetadata vocabulary : vocabularyList) {
             if (vocabulary.shouldSave()) {
-                vocabulary.saveVocabulary();
-                vocabulary.setShouldSave(false);
+                savedVocabularyList.add(vocabulary);
             }
         }
+
+        final CompletableFuture<Void> future = VocabularyPersistence.getInstance().saveVocabularies(savedVocabularyList);
+
+        for (final VocabularyMetadata vocabulary : savedVocabularyList) {
+            vocabulary.setShouldSave(false);
+        }
+
+        futures.add(future.whenComplete((result, e) -> {
+            if (e == null) return;
+
+            for (final VocabularyMetadata vocabulary : savedVocabularyList) {
+                vocabulary.setShouldSave(true);
+            }
+        }));
+
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]));
     }
 
     public JSONArray saveToJSONArray() throws JSONException {
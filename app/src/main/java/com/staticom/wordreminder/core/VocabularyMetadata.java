@@ -1,12 +1,11 @@
 package com.staticom.wordreminder.core;
 
-import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.Serializable;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
 
 public class VocabularyMetadata {
 
@@ -34,7 +33,7 @@ public class VocabularyMetadata {
     private LocalDateTime time;
 
     private Vocabulary vocabulary;
-    private boolean shouldSave;
+    private volatile boolean shouldSave;
 
     public VocabularyMetadata(String name, Path path, LocalDateTime time) {
         this.name = name;
@@ -80,16 +79,17 @@ public class VocabularyMetadata {
         this.vocabulary = vocabulary;
     }
 
-    public void saveVocabulary() throws IOException {
-        try (final FileOutputStream stream = new FileOutputStream(path.toFile())) {
-            vocabulary.writeToFileStream(stream);
-        }
+    public CompletableFuture<Void> saveVocabulary() throws IOException {
+        return VocabularyPersistence.getInstance().saveVocabulary(this);
     }
 
     public void loadVocabulary() throws IOException {
-        try (final FileInputStream stream = new FileInputStream(path.toFile())) {
-            vocabulary = Vocabulary.readFromFileStream(stream);
-        }
+        vocabulary = VocabularyPersistence.getInstance().loadVocabulary(path);
+        vocabulary.startTracking();
+    }
+
+    public CompletableFuture<Void> deleteVocabulary() {
+        return VocabularyPersistence.getInstance().deleteVocabulary(path);
     }
 
     public boolean shouldSave() {
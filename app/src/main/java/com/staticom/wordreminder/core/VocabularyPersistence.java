@@ -0,0 +1,317 @@
+package com.staticom.wordreminder.core;
+
+import com.staticom.wordreminder.utility.AtomicFileWriter;
+import com.staticom.wordreminder.utility.BinaryStream;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public class VocabularyPersistence {
+
+    interface FileReader<T> {
+        T read() throws IOException;
+    }
+
+    private static class PendingSave {
+
+        private final Path path;
+        private final boolean isVocabulary;
+
+        private Vocabulary.FileSnapshot fileSnapshot;
+        private BinaryStream file;
+        private final List<BinaryStream> journalRecords = new ArrayList<>();
+        private final List<Vocabulary> vocabularies = new ArrayList<>();
+        private boolean isDeleted;
+
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+        public PendingSave(Path path, boolean isVocabulary) {
+            this.path = path;
+            this.isVocabulary = isVocabulary;
+        }
+    }
+
+    private static final VocabularyPersistence instance = new VocabularyPersistence();
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private final Object fileLock = new Object();
+
+    private final Map<Path, PendingSave> pendingSaves = new LinkedHashMap<>();
+    private volatile Duration lastSyncDuration = Duration.ZERO;
+
+    private VocabularyPersistence() {
+    }
+
+    public static VocabularyPersistence getInstance() {
+        return instance;
+    }
+
+    public Duration getLastSyncDuration() {
+        return lastSyncDuration;
+    }
+
+    private PendingSave getPendingSave(Path path, boolean isVocabulary) {
+        PendingSave pendingSave = pendingSaves.get(path);
+
+        if (pendingSave == null) {
+            pendingSave = new PendingSave(path, isVocabulary);
+            pendingSaves.put(path, pendingSave);
+        }
+
+        return pendingSave;
+    }
+
+    private CompletableFuture<Void> submit(List<CompletableFuture<Void>> futures) {
+        executor.execute(this::writePendingSaves);
+
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]));
+    }
+
+    public CompletableFuture<Void> saveVocabularies(List<VocabularyMetadata> vocabularies) throws IOException {
+        final List<CompletableFuture<Void>> futures = new ArrayList<>();
+
+        synchronized (pendingSaves) {
+            for (final VocabularyMetadata metadata : vocabularies) {
+                final Vocabulary vocabulary = metadata.getVocabulary();
+                final PendingSave pendingSave = getPendingSave(metadata.getPath(), true);
+
+                if (vocabulary.getChanges() != null &&
+                        (pendingSave.fileSnapshot != null || Files.exists(metadata.getPath()))) {
+                    if (!vocabulary.getChanges().isEmpty()) {
+                        pendingSave.journalRecords.add(VocabularyJournal.writeRecord(vocabulary));
+                    }
+                } else {
+                    pendingSave.fileSnapshot = vocabulary.getFileSnapshot();
+                    pendingSave.journalRecords.clear();
+                }
+
+                pendingSave.vocabularies.add(vocabulary);
+                pendingSave.isDeleted = false;
+                vocabulary.startTracking();
+
+                futures.add(pendingSave.future);
+            }
+        }
+
+        return submit(futures);
+    }
+
+    public CompletableFuture<Void> saveVocabulary(VocabularyMetadata vocabulary) throws IOException {
+        return saveVocabularies(Collections.singletonList(vocabulary));
+    }
+
+    public CompletableFuture<Void> deleteVocabulary(Path path) {
+        final CompletableFuture<Void> future;
+
+        synchronized (pendingSaves) {
+            final PendingSave pendingSave = getPendingSave(path, true);
+
+            pendingSave.fileSnapshot = null;
+            pendingSave.file = null;
+            pendingSave.journalRecords.clear();
+            pendingSave.isDeleted = true;
+
+            future = pendingSave.future;
+        }
+
+        return submit(Collections.singletonList(future));
+    }
+
+    public CompletableFuture<Void> writeFile(Path path, byte[] bytes) throws IOException {
+        final CompletableFuture<Void> future;
+
+        synchronized (pendingSaves) {
+            final PendingSave pendingSave = getPendingSave(path, false);
+
+            pendingSave.file = new BinaryStream(bytes.length);
+            pendingSave.file.write(bytes);
+
+            future = pendingSave.future;
+        }
+
+        return submit(Collections.singletonList(future));
+    }
+
+    public void waitForPendingSaves() {
+        try {
+            executor.submit(() -> {}).get();
+        } catch (final ExecutionException e) {
+            e.printStackTrace();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public Vocabulary loadVocabulary(Path path) throws IOException {
+        return readFiles(() -> readVocabulary(path));
+    }
+
+    <T> T readFiles(FileReader<T> reader) throws IOException {
+        waitForPendingSaves();
+
+        synchronized (fileLock) {
+            return reader.read();
+        }
+    }
+
+    private static Vocabulary readVocabulary(Path path) throws IOException {
+        final Vocabulary vocabulary;
+        final SearchIndexFile indexFile;
+
+        try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final ByteBuffer file = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+            vocabulary = Vocabulary.readFromByteBuffer(file);
+            indexFile = SearchIndexFile.open(path, file, vocabulary.getWords().size());
+        }
+
+        final List<Word> indexedWords = indexFile != null ? new ArrayList<>(vocabulary.getWords()) : null;
+
+        vocabulary.startTracking();
+
+        VocabularyJournal.replay(path, vocabulary);
+
+        final VocabularyChanges changes = vocabulary.getChanges();
+
+        vocabulary.stopTracking();
+
+        if (indexFile != null) {
+            indexFile.load(vocabulary, indexedWords, changes.getChangedWords());
+        }
+
+        return vocabulary;
+    }
+
+    private void writePendingSaves() {
+        final List<PendingSave> saves;
+
+        synchronized (pendingSaves) {
+            if (pendingSaves.isEmpty()) return;
+
+            saves = new ArrayList<>(pendingSaves.values());
+            pendingSaves.clear();
+        }
+
+        try {
+            for (final PendingSave save : saves) {
+                if (save.fileSnapshot != null) {
+                    save.file = save.fileSnapshot.writeToMemory(true);
+                }
+            }
+
+            synchronized (fileLock) {
+                writeSaves(saves);
+            }
+
+            for (final PendingSave save : saves) {
+                save.future.complete(null);
+            }
+
+            writeSearchIndices(saves);
+        } catch (final Exception e) {
+            for (final PendingSave save : saves) {
+                for (final Vocabulary vocabulary : save.vocabularies) {
+                    vocabulary.stopTracking();
+                }
+
+                save.future.completeExceptionally(e);
+            }
+        }
+    }
+
+    private void writeSaves(List<PendingSave> saves) throws IOException {
+        final List<AtomicFileWriter> writers = new ArrayList<>();
+
+        try {
+            for (final PendingSave save : saves) {
+                if (save.isDeleted) {
+                    Files.deleteIfExists(save.path);
+                    VocabularyJournal.delete(save.path);
+                    SearchIndexFile.delete(save.path);
+                    ReviewScheduler.delete(save.path);
+                } else if (save.file != null) {
+                    final AtomicFileWriter writer = new AtomicFileWriter(save.path);
+
+                    writers.add(writer);
+                    save.file.writeTo(writer.getStream());
+                }
+            }
+
+            final long syncStartTime = System.nanoTime();
+
+            for (final AtomicFileWriter writer : writers) {
+                writer.sync();
+            }
+
+            lastSyncDuration = Duration.ofNanos(System.nanoTime() - syncStartTime);
+
+            for (final AtomicFileWriter writer : writers) {
+                writer.commit();
+            }
+        } finally {
+            for (final AtomicFileWriter writer : writers) {
+                writer.close();
+            }
+        }
+
+        for (final PendingSave save : saves) {
+            if (!save.isVocabulary || save.isDeleted) continue;
+            else if (save.file != null) {
+                VocabularyJournal.delete(save.path);
+            }
+
+            if (!save.journalRecords.isEmpty() &&
+                    VocabularyJournal.append(save.path, save.journalRecords) >= VocabularyJournal.COMPACTION_THRESHOLD) {
+                compactVocabulary(save.path);
+            }
+        }
+    }
+
+    private static void compactVocabulary(Path path) throws IOException {
+        final Vocabulary.FileSnapshot snapshot = readVocabulary(path).getFileSnapshot();
+        final BinaryStream file = snapshot.writeToMemory(true);
+
+        try (final AtomicFileWriter writer = new AtomicFileWriter(path)) {
+            file.writeTo(writer.getStream());
+
+            writer.sync();
+            writer.commit();
+        }
+
+        VocabularyJournal.delete(path);
+
+        try {
+            SearchIndexFile.write(path, file.toByteBuffer(), snapshot.getSnapshot());
+        } catch (final IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    private void writeSearchIndices(List<PendingSave> saves) {
+        for (final PendingSave save : saves) {
+            if (!save.isVocabulary || save.isDeleted || save.fileSnapshot == null) continue;
+
+            try {
+                if (Files.exists(save.path)) {
+                    SearchIndexFile.write(save.path, save.file.toByteBuffer(), save.fileSnapshot.getSnapshot());
+                }
+            } catch (final IOException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.staticom.wordreminder.core;
+
+import com.staticom.wordreminder.utility.IdentityIndexMap;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+final class VocabularySnapshot {
+
+    private final Vocabulary vocabulary;
+    private final SearchIndices searchIndices;
+    private final WordSnapshot[] words;
+    private final int size;
+    private final boolean isIndexable;
+
+    private IdentityIndexMap positions;
+
+    VocabularySnapshot(Vocabulary vocabulary, SearchIndices searchIndices,
+                       WordSnapshot[] words, int size, boolean isIndexable) {
+        this.vocabulary = vocabulary;
+        this.searchIndices = searchIndices;
+        this.words = words;
+        this.size = size;
+        this.isIndexable = isIndexable;
+    }
+
+    Vocabulary getVocabulary() {
+        return vocabulary;
+    }
+
+    boolean isIndexable() {
+        return isIndexable;
+    }
+
+    int size() {
+        return size;
+    }
+
+    WordSnapshot get(int position) {
+        return words[position];
+    }
+
+    List<WordSnapshot> getWords() {
+        return new AbstractList<WordSnapshot>() {
+            @Override
+            public WordSnapshot get(int index) {
+                return words[index];
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    synchronized int getPosition(WordSnapshot word) {
+        if (positions == null) {
+            positions = IdentityIndexMap.of(getWords());
+        }
+
+        return positions.get(word);
+    }
+
+    List<WordSnapshot> searchWords(String normalizedQuery, List<WordSnapshot> previousResult) {
+        return searchIndices.searchWords(this, normalizedQuery, previousResult);
+    }
+
+    List<WordSnapshot> fuzzySearch(String normalizedQuery, int maxDistance) {
+        return searchIndices.fuzzySearch(this, normalizedQuery, maxDistance);
+    }
+
+    static List<Word> toWords(List<WordSnapshot> words) {
+        final List<Word> result = new ArrayList<>(words.size());
+
+        for (final WordSnapshot word : words) {
+            result.add(word.getWord());
+        }
+
+        return result;
+    }
+
+    private int[] getPositions(List<WordSnapshot> words) {
+        final int[] positions = new int[words.size()];
+        int count = 0;
+
+        for (final WordSnapshot word : words) {
+            final int position = getPosition(word);
+
+            if (position != -1) {
+                positions[count++] = position;
+            }
+        }
+
+        return count == positions.length ? positions : Arrays.copyOf(positions, count);
+    }
+
+    static List<WordSnapshot> getRemainingWords(List<WordSnapshot> page, List<WordSnapshot> words) {
+        final Set<WordSnapshot> pageWords = Collections.newSetFromMap(new IdentityHashMap<>());
+        final List<WordSnapshot> result = new ArrayList<>(Math.max(0, words.size() - page.size()));
+
+        pageWords.addAll(page);
+
+        for (final WordSnapshot word : words) {
+            if (!pageWords.contains(word)) {
+                result.add(word);
+            }
+        }
+
+        return result;
+    }
+
+    SearchResult toSearchResult(List<WordSnapshot> words) {
+        return new SearchResult(vocabulary, getPositions(words));
+    }
+
+    SearchResult toSearchResult(List<WordSnapshot> page, List<WordSnapshot> words) {
+        final int[] pagePositions = getPositions(page);
+        if (page.size() == words.size()) return new SearchResult(vocabulary, pagePositions);
+
+        return new SearchResult(vocabulary, pagePositions, pagePositions.length + words.size() - page.size(),
+                () -> getPositions(getRemainingWords(page, words)));
+    }
+}
@@ -1,5 +1,7 @@
 package com.staticom.wordreminder.core;
 
+import com.staticom.wordreminder.utility.TextNormalizer;
+
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -13,6 +15,8 @@ public class Word implements Serializable {
     private final List<Meaning> meanings = new ArrayList<>();
     private final List<Relation> relations = new ArrayList<>();
 
+    private transient TextNormalizer.Key normalizedWord;
+
     public Word(String word) {
         this.word = word;
     }
@@ -30,7 +34,34 @@ public class Word implements Serializable {
     }
 
     public void setWord(String word) {
+        final String oldWord = this.word;
+
         this.word = word;
+        normalizedWord = null;
+
+        if (vocabulary != null) {
+            vocabulary.onWordRenamed(this, oldWord);
+        }
+
+        markChanged();
+    }
+
+    TextNormalizer.Key getWordKey() {
+        final TextNormalizer.Key key = TextNormalizer.getKey(normalizedWord, word);
+
+        normalizedWord = key;
+
+        return key;
+    }
+
+    public String getNormalizedWord() {
+        return getWordKey().getNormalizedText();
+    }
+
+    void markChanged() {
+        if (vocabulary != null) {
+            vocabulary.onWordChanged(this);
+        }
     }
 
     public List<Meaning> getMeanings() {
@@ -58,11 +89,15 @@ public class Word implements Serializable {
 
         meanings.add(meaning);
 
+        markChanged();
+
         return meaning;
     }
 
     public void addMeaningRef(Meaning meaning) {
         meanings.add(meaning);
+
+        markChanged();
     }
 
     public void removeMeaning(int index) {
@@ -71,6 +106,8 @@ public class Word implements Serializable {
         if (meaning.getWord() == this) {
             meaning.setWord(null);
         }
+
+        markChanged();
     }
 
     public void removeMeaning(Meaning meaning) {
@@ -79,6 +116,8 @@ public class Word implements Serializable {
         }
 
         meanings.remove(meaning);
+
+        markChanged();
     }
 
     public boolean hasExample() {
@@ -148,14 +187,20 @@ public class Word implements Serializable {
     }
 
     public void addRelation(Word word, String relation) {
-        relations.add(new Relation(word, relation));
+        relations.add(new Relation(this, word, relation));
+
+        markChanged();
     }
 
     public void removeRelation(int index) {
         relations.remove(index);
+
+        markChanged();
     }
 
     public void removeRelation(Word word) {
         relations.removeIf(relation -> relation.getWord().getWord().equals(word.getWord()));
+
+        markChanged();
     }
 }
\ No newline at end of file
@@ -0,0 +1,81 @@
+package com.staticom.wordreminder.core;
+
+import com.staticom.wordreminder.utility.BinaryStream;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+class WordIndex {
+
+    static final int HEADER_SIZE = 12;
+    static final int ENTRY_SIZE = 12;
+    static final int TRAILER_SIZE = 4;
+
+    private final int[] wordOffsets;
+    private final int[] homonymOffsets;
+    private final int[] exampleOffsets;
+
+    private int homonymContainerOffset = -1;
+    private int exampleContainerOffset = -1;
+
+    WordIndex(int wordCount) {
+        wordOffsets = new int[wordCount];
+        homonymOffsets = new int[wordCount];
+        exampleOffsets = new int[wordCount];
+
+        Arrays.fill(homonymOffsets, -1);
+        Arrays.fill(exampleOffsets, -1);
+    }
+
+    int getWordCount() {
+        return wordOffsets.length;
+    }
+
+    int getWordOffset(int index) {
+        return wordOffsets[index];
+    }
+
+    void setWordOffset(int index, int offset) {
+        wordOffsets[index] = offset;
+    }
+
+    int getHomonymOffset(int index) {
+        return homonymOffsets[index] != -1 ? homonymContainerOffset + homonymOffsets[index] : -1;
+    }
+
+    void setHomonymOffset(int index, int offset) {
+        homonymOffsets[index] = offset;
+    }
+
+    void setHomonymContainerOffset(int offset) {
+        homonymContainerOffset = offset;
+    }
+
+    int getExampleOffset(int index) {
+        return exampleOffsets[index] != -1 ? exampleContainerOffset + exampleOffsets[index] : -1;
+    }
+
+    void setExampleOffset(int index, int offset) {
+        exampleOffsets[index] = offset;
+    }
+
+    void setExampleContainerOffset(int offset) {
+        exampleContainerOffset = offset;
+    }
+
+    void write(BinaryStream stream) throws IOException {
+        final int wordCount = getWordCount();
+
+        stream.writeInt(wordCount);
+        stream.writeInt(homonymContainerOffset);
+        stream.writeInt(exampleContainerOffset);
+
+        for (int i = 0; i < wordCount; ++i) {
+            stream.writeInt(wordOffsets[i]);
+            stream.writeInt(homonymOffsets[i]);
+            stream.writeInt(exampleOffsets[i]);
+        }
+
+        stream.writeInt(HEADER_SIZE + wordCount * ENTRY_SIZE + TRAILER_SIZE);
+    }
+}
@@ -0,0 +1,178 @@
+package com.staticom.wordreminder.core;
+
+import com.staticom.wordreminder.utility.TextNormalizer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+final class WordSnapshot {
+
+    private static final int MEANING_KEY = 1;
+    private static final int PRONUNCIATION_KEY = 2;
+    private static final int EXAMPLE_KEY = 3;
+    private static final int KEYS_PER_MEANING = 3;
+
+    private static final Tag[] NO_TAGS = new Tag[0];
+
+    private final Word word;
+    private final boolean isForeign;
+    private final String[] texts;
+    private final TextNormalizer.Key[] keys;
+    private final Tag[][] tags;
+    private final Word[] relatedWords;
+    private final String[] relations;
+
+    WordSnapshot(Word word) {
+        this(word, false);
+    }
+
+    WordSnapshot(Word word, boolean isForeign) {
+        final List<Meaning> meanings = word.getMeanings();
+        final List<Relation> relations = word.getRelations();
+
+        this.word = word;
+        this.isForeign = isForeign;
+
+        texts = new String[1 + meanings.size() * KEYS_PER_MEANING];
+        texts[0] = word.getWord();
+        tags = new Tag[meanings.size()][];
+
+        for (int i = 0; i < meanings.size(); ++i) {
+            final Meaning meaning = meanings.get(i);
+
+            texts[i * KEYS_PER_MEANING + MEANING_KEY] = meaning.getMeaning();
+            texts[i * KEYS_PER_MEANING + PRONUNCIATION_KEY] = meaning.getPronunciation();
+            texts[i * KEYS_PER_MEANING + EXAMPLE_KEY] = meaning.getExample();
+            tags[i] = meaning.getTags().isEmpty() ? NO_TAGS : meaning.getTags().toArray(NO_TAGS);
+        }
+
+        keys = new TextNormalizer.Key[texts.length];
+
+        relatedWords = new Word[relations.size()];
+        this.relations = new String[relations.size()];
+
+        for (int i = 0; i < relations.size(); ++i) {
+            relatedWords[i] = relations.get(i).getWord();
+            this.relations[i] = relations.get(i).getRelation();
+        }
+    }
+
+    Word getWord() {
+        return word;
+    }
+
+    boolean isForeign() {
+        return isForeign;
+    }
+
+    String getText() {
+        return texts[0];
+    }
+
+    String getMeaning(int index) {
+        return texts[index * KEYS_PER_MEANING + MEANING_KEY];
+    }
+
+    String getPronunciation(int index) {
+        return texts[index * KEYS_PER_MEANING + PRONUNCIATION_KEY];
+    }
+
+    String getExample(int index) {
+        return texts[index * KEYS_PER_MEANING + EXAMPLE_KEY];
+    }
+
+    Tag[] getTags(int index) {
+        return tags[index];
+    }
+
+    boolean hasExample() {
+        for (int i = 0; i < getMeaningCount(); ++i) {
+            if (!getExample(i).isEmpty()) return true;
+        }
+
+        return false;
+    }
+
+    String getMergedMeaning() {
+        if (getMeaningCount() == 1) return getMeaning(0);
+
+        final List<String> meanings = new ArrayList<>();
+
+        for (int i = 0; i < getMeaningCount(); ++i) {
+            meanings.add(getMeaning(i));
+        }
+
+        return String.join(", ", meanings);
+    }
+
+    String getMergedPronunciation() {
+        if (getMeaningCount() == 1) return getPronunciation(0);
+
+        final List<String> pronunciations = new ArrayList<>();
+
+        for (int i = 0; i < getMeaningCount(); ++i) {
+            final String pronunciation = getPronunciation(i);
+
+            if (!pronunciation.isEmpty() && !pronunciation.equals(getText()) && !pronunciations.contains(pronunciation)) {
+                pronunciations.add(pronunciation);
+            }
+        }
+
+        return String.join(", ", pronunciations);
+    }
+
+    int getRelationCount() {
+        return relations.length;
+    }
+
+    Word getRelatedWord(int index) {
+        return relatedWords[index];
+    }
+
+    String getRelation(int index) {
+        return relations[index];
+    }
+
+    int getKeyCount() {
+        return keys.length;
+    }
+
+    TextNormalizer.Key getKey(int index) {
+        TextNormalizer.Key key = keys[index];
+
+        if (key == null) {
+            key = TextNormalizer.getKey(null, texts[index]);
+            keys[index] = key;
+        }
+
+        return key;
+    }
+
+    TextNormalizer.Key getWordKey() {
+        return getKey(0);
+    }
+
+    int getMeaningCount() {
+        return (keys.length - 1) / KEYS_PER_MEANING;
+    }
+
+    TextNormalizer.Key getMeaningKey(int index) {
+        return getKey(index * KEYS_PER_MEANING + MEANING_KEY);
+    }
+
+    TextNormalizer.Key getPronunciationKey(int index) {
+        return getKey(index * KEYS_PER_MEANING + PRONUNCIATION_KEY);
+    }
+
+    TextNormalizer.Key getExampleKey(int index) {
+        return getKey(index * KEYS_PER_MEANING + EXAMPLE_KEY);
+    }
+
+    boolean matches(SearchMode mode, String query) {
+        for (int i = 0; i < keys.length; ++i) {
+            if (mode.getText(getKey(i)).contains(query)) return true;
+        }
+
+        return false;
+    }
+}
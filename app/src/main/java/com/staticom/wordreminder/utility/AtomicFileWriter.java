@@ -0,0 +1,76 @@
+package com.staticom.wordreminder.utility;
+
+import java.io.Closeable;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+public class AtomicFileWriter implements Closeable {
+
+    private final Path path;
+    private final Path tempPath;
+    private final FileOutputStream stream;
+
+    private boolean isCommitted;
+
+    public AtomicFileWriter(Path path) throws IOException {
+        this.path = path;
+
+        tempPath = path.resolveSibling(path.getFileName() + ".tmp");
+        stream = new FileOutputStream(tempPath.toFile());
+    }
+
+    public static void write(Path path, byte[] bytes) throws IOException {
+        try (final AtomicFileWriter writer = new AtomicFileWriter(path)) {
+            writer.getStream().write(bytes);
+            writer.sync();
+            writer.commit();
+        }
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public FileOutputStream getStream() {
+        return stream;
+    }
+
+    public void sync() throws IOException {
+        stream.flush();
+        stream.getFD().sync();
+    }
+
+    public void commit() throws IOException {
+        stream.close();
+
+        Files.move(tempPath, path, StandardCopyOption.ATOMIC_MOVE);
+
+        isCommitted = true;
+
+        syncDirectory(path.toAbsolutePath().getParent());
+    }
+
+    private static void syncDirectory(Path directory) throws IOException {
+        if (directory == null) return;
+
+        try (final FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (isCommitted) return;
+
+        try {
+            stream.close();
+        } finally {
+            Files.deleteIfExists(tempPath);
+        }
+    }
+}
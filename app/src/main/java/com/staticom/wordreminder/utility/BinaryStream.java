@@ -1,63 +1,489 @@
 package com.staticom.wordreminder.utility;
 
+import java.io.Closeable;
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.zip.CRC32C;
 
-public class BinaryStream {
+public class BinaryStream implements Closeable {
+
+    private static final int BUFFER_SIZE = 8192;
+    private static final int BUFFER_POOL_SIZE = 4;
+    private static final Deque<ByteBuffer> bufferPool = new ArrayDeque<>();
 
     private final InputStream inputStream;
     private final OutputStream outputStream;
 
+    private ByteBuffer buffer;
+    private final boolean isPooledBuffer;
+    private final boolean isGrowableBuffer;
+    private int bufferOffset;
+    private char[] chars = new char[64];
+    private byte[] bytes = new byte[64];
+
+    private boolean isCompactEncoding;
+
+    private CRC32C checksum;
+    private int checksumStart;
+
     public BinaryStream(InputStream inputStream) {
         this.inputStream = inputStream;
         this.outputStream = null;
+
+        buffer = acquireBuffer();
+        buffer.limit(0);
+        isPooledBuffer = true;
+        isGrowableBuffer = false;
     }
 
     public BinaryStream(OutputStream outputStream) {
         this.inputStream = null;
         this.outputStream = outputStream;
+
+        buffer = acquireBuffer();
+        isPooledBuffer = true;
+        isGrowableBuffer = false;
+    }
+
+    public BinaryStream(ByteBuffer buffer) {
+        this.inputStream = null;
+        this.outputStream = null;
+
+        this.buffer = buffer.slice().order(ByteOrder.LITTLE_ENDIAN);
+        isPooledBuffer = false;
+        isGrowableBuffer = false;
+    }
+
+    public BinaryStream(int capacity) {
+        this.inputStream = null;
+        this.outputStream = null;
+
+        buffer = ByteBuffer.allocate(capacity).order(ByteOrder.LITTLE_ENDIAN);
+        isPooledBuffer = false;
+        isGrowableBuffer = true;
+    }
+
+    private static ByteBuffer acquireBuffer() {
+        synchronized (bufferPool) {
+            final ByteBuffer buffer = bufferPool.poll();
+            if (buffer != null) {
+                buffer.clear();
+
+                return buffer;
+            }
+        }
+
+        return ByteBuffer.allocate(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private static void releaseBuffer(ByteBuffer buffer) {
+        synchronized (bufferPool) {
+            if (bufferPool.size() < BUFFER_POOL_SIZE) {
+                bufferPool.push(buffer);
+            }
+        }
+    }
+
+    private void fill(int length) throws IOException {
+        if (buffer.remaining() >= length) return;
+        else if (inputStream == null) throw new EOFException();
+
+        updateChecksum();
+
+        bufferOffset += buffer.position();
+        buffer.compact();
+        checksumStart = 0;
+
+        try {
+            while (buffer.position() < length) {
+                final int read = inputStream.read(buffer.array(),
+                        buffer.arrayOffset() + buffer.position(), buffer.remaining());
+                if (read == -1) throw new EOFException();
+
+                buffer.position(buffer.position() + read);
+            }
+        } finally {
+            buffer.flip();
+        }
+    }
+
+    private void updateChecksum() {
+        if (checksum == null) return;
+
+        final ByteBuffer checksummedBytes = buffer.duplicate();
+
+        checksummedBytes.limit(buffer.position());
+        checksummedBytes.position(checksumStart);
+        checksum.update(checksummedBytes);
+
+        checksumStart = buffer.position();
+    }
+
+    public void beginChecksum() {
+        checksum = new CRC32C();
+        checksumStart = buffer.position();
+    }
+
+    public int endChecksum() {
+        updateChecksum();
+
+        final int value = (int)checksum.getValue();
+
+        checksum = null;
+
+        return value;
+    }
+
+    public boolean isCompactEncoding() {
+        return isCompactEncoding;
+    }
+
+    public void setCompactEncoding(boolean compactEncoding) {
+        isCompactEncoding = compactEncoding;
+    }
+
+    private void drain(int length) throws IOException {
+        if (buffer.remaining() >= length) return;
+        else if (!isGrowableBuffer) {
+            flush();
+
+            return;
+        }
+
+        final ByteBuffer newBuffer = ByteBuffer.allocate(Math.max(buffer.position() + length, buffer.capacity() * 2))
+                .order(ByteOrder.LITTLE_ENDIAN);
+
+        buffer.flip();
+        newBuffer.put(buffer);
+        buffer = newBuffer;
+    }
+
+    public void reset() {
+        if (!isGrowableBuffer) throw new UnsupportedOperationException();
+
+        buffer.clear();
+        checksum = null;
+    }
+
+    public int getPosition() {
+        return bufferOffset + buffer.position();
+    }
+
+    public int getLength() {
+        if (inputStream != null || outputStream != null || isGrowableBuffer) throw new UnsupportedOperationException();
+
+        return buffer.limit();
+    }
+
+    public void seek(int position) throws IOException {
+        if (inputStream != null || outputStream != null || isGrowableBuffer) throw new UnsupportedOperationException();
+        else if (position < 0 || position > buffer.limit()) throw new EOFException();
+
+        buffer.position(position);
     }
 
     public byte[] read(int length) throws IOException {
         final byte[] bytes = new byte[length];
 
-        inputStream.read(bytes);
+        for (int offset = 0; offset < length; ) {
+            fill(1);
+
+            final int count = Math.min(length - offset, buffer.remaining());
+
+            buffer.get(bytes, offset, count);
+            offset += count;
+        }
 
         return bytes;
     }
 
     public int readInt() throws IOException {
-        final byte[] bytes = read(4);
+        fill(4);
 
-        return bytes[0] & 0xFF | (bytes[1] << 8) & (0xFF << 8) |
-                (bytes[2] << 16) & (0xFF << 16) | (bytes[3] << 16) & (0xFF << 24);
+        return buffer.getInt();
+    }
+
+    public long readLong() throws IOException {
+        fill(8);
+
+        return buffer.getLong();
+    }
+
+    public int readVarInt() throws IOException {
+        if (!isCompactEncoding) return readInt();
+
+        int value = 0;
+
+        for (int shift = 0; shift < 35; shift += 7) {
+            fill(1);
+
+            final byte b = buffer.get();
+
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) return value;
+        }
+
+        throw new IOException("Malformed variable-length integer");
     }
 
     public String readString() throws IOException {
+        if (isCompactEncoding) return readUtf8String();
+
         final int length = readInt();
-        final byte[] bytes = read(length * 2);
+        if (length < 0) throw new IOException("Negative string length");
+        else if (inputStream == null && length > buffer.remaining() / 2) throw new EOFException();
+
+        if (chars.length < length) {
+            chars = new char[Math.max(length, chars.length * 2)];
+        }
+
+        for (int offset = 0; offset < length; ) {
+            fill(2);
+
+            final int count = Math.min(length - offset, buffer.remaining() / 2);
+            for (int i = 0; i < count; ++i) {
+                chars[offset++] = buffer.getChar();
+            }
+        }
+
+        return new String(chars, 0, length);
+    }
+
+    private String readUtf8String() throws IOException {
+        final int length = readVarInt();
+        if (length < 0) throw new IOException("Negative string length");
+        else if (inputStream == null && length > buffer.remaining()) throw new EOFException();
+
+        if (bytes.length < length) {
+            bytes = new byte[Math.max(length, bytes.length * 2)];
+        }
 
-        return new String(bytes, StandardCharsets.UTF_16LE);
+        for (int offset = 0; offset < length; ) {
+            fill(1);
+
+            final int count = Math.min(length - offset, buffer.remaining());
+
+            buffer.get(bytes, offset, count);
+            offset += count;
+        }
+
+        return new String(bytes, 0, length, StandardCharsets.UTF_8);
+    }
+
+    public void skipString() throws IOException {
+        if (isCompactEncoding) {
+            skip(readVarInt());
+        } else {
+            skip(readInt() * 2);
+        }
     }
 
     public void skip(int length) throws IOException {
-        inputStream.skip(length);
+        if (length < 0) throw new IOException("Negative skip length");
+        else if (inputStream == null) {
+            fill(length);
+        }
+
+        while (length > 0) {
+            if (!buffer.hasRemaining()) {
+                if (checksum == null) {
+                    final long skipped = inputStream.skip(length);
+                    if (skipped > 0) {
+                        bufferOffset += (int)skipped;
+                        length -= (int)skipped;
+
+                        continue;
+                    }
+                }
+
+                fill(1);
+            }
+
+            final int count = Math.min(length, buffer.remaining());
+
+            buffer.position(buffer.position() + count);
+            length -= count;
+        }
     }
 
     public void write(byte[] bytes) throws IOException {
-        outputStream.write(bytes);
+        write(bytes, 0, bytes.length);
+    }
+
+    public void write(byte[] bytes, int offset, int length) throws IOException {
+        if (length > buffer.capacity() && !isGrowableBuffer) {
+            flush();
+
+            outputStream.write(bytes, offset, length);
+            bufferOffset += length;
+
+            if (checksum != null) {
+                checksum.update(bytes, offset, length);
+            }
+        } else {
+            drain(length);
+
+            buffer.put(bytes, offset, length);
+        }
+    }
+
+    public void write(BinaryStream stream) throws IOException {
+        if (!stream.isGrowableBuffer) throw new UnsupportedOperationException();
+
+        write(stream.buffer.array(), stream.buffer.arrayOffset(), stream.buffer.position());
+    }
+
+    public void writeTo(OutputStream stream) throws IOException {
+        if (!isGrowableBuffer) throw new UnsupportedOperationException();
+
+        stream.write(buffer.array(), buffer.arrayOffset(), buffer.position());
+    }
+
+    public ByteBuffer toByteBuffer() {
+        if (!isGrowableBuffer) throw new UnsupportedOperationException();
+
+        final ByteBuffer result = buffer.duplicate();
+
+        result.flip();
+
+        return result;
     }
 
     public void writeInt(int value) throws IOException {
-        write(new byte[] { (byte)value, (byte)(value >>> 8), (byte)(value >>> 16), (byte)(value >>> 24) });
+        drain(4);
+
+        buffer.putInt(value);
+    }
+
+    public void writeLong(long value) throws IOException {
+        drain(8);
+
+        buffer.putLong(value);
+    }
+
+    public void writeVarInt(int value) throws IOException {
+        if (!isCompactEncoding) {
+            writeInt(value);
+
+            return;
+        }
+
+        drain(5);
+
+        while ((value & ~0x7F) != 0) {
+            buffer.put((byte)((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+
+        buffer.put((byte)value);
+    }
+
+    private static int getUtf8Length(String value) {
+        final int length = value.length();
+        int result = length;
+
+        for (int i = 0; i < length; ++i) {
+            final char c = value.charAt(i);
+
+            if (c >= 0x800) {
+                if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    result += 2;
+                    ++i;
+                } else if (Character.isSurrogate(c)) {
+                    continue;
+                } else {
+                    result += 2;
+                }
+            } else if (c >= 0x80) {
+                result += 1;
+            }
+        }
+
+        return result;
+    }
+
+    private void writeUtf8String(String value) throws IOException {
+        final int length = value.length();
+
+        writeVarInt(getUtf8Length(value));
+
+        for (int i = 0; i < length; ++i) {
+            final char c = value.charAt(i);
+
+            drain(4);
+
+            if (c < 0x80) {
+                buffer.put((byte)c);
+            } else if (c < 0x800) {
+                buffer.put((byte)(0xC0 | (c >> 6)));
+                buffer.put((byte)(0x80 | (c & 0x3F)));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                final int codePoint = Character.toCodePoint(c, value.charAt(++i));
+
+                buffer.put((byte)(0xF0 | (codePoint >> 18)));
+                buffer.put((byte)(0x80 | ((codePoint >> 12) & 0x3F)));
+                buffer.put((byte)(0x80 | ((codePoint >> 6) & 0x3F)));
+                buffer.put((byte)(0x80 | (codePoint & 0x3F)));
+            } else if (Character.isSurrogate(c)) {
+                buffer.put((byte)'?');
+            } else {
+                buffer.put((byte)(0xE0 | (c >> 12)));
+                buffer.put((byte)(0x80 | ((c >> 6) & 0x3F)));
+                buffer.put((byte)(0x80 | (c & 0x3F)));
+            }
+        }
     }
 
     public void writeString(String value) throws IOException {
-        final byte[] bytes = value.getBytes(StandardCharsets.UTF_16LE);
+        if (isCompactEncoding) {
+            writeUtf8String(value);
+
+            return;
+        }
+
+        final int length = value.length();
+
+        writeInt(length);
+
+        for (int i = 0; i < length; ++i) {
+            drain(2);
+
+            buffer.putChar(value.charAt(i));
+        }
+    }
+
+    public void flush() throws IOException {
+        if (outputStream == null) return;
+
+        updateChecksum();
+
+        outputStream.write(buffer.array(), buffer.arrayOffset(), buffer.position());
+        outputStream.flush();
+
+        bufferOffset += buffer.position();
+        buffer.clear();
+        checksumStart = 0;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (buffer == null) return;
+
+        try {
+            flush();
+        } finally {
+            if (isPooledBuffer) {
+                releaseBuffer(buffer);
+            }
 
-        writeInt(bytes.length / 2);
-        write(bytes);
+            buffer = null;
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,113 @@
+package com.staticom.wordreminder.utility;
+
+public class Hangul {
+
+    private static final char FIRST_SYLLABLE = '가';
+    private static final char LAST_SYLLABLE = '힣';
+    private static final char FIRST_JAMO = 'ㄱ';
+    private static final char LAST_CONSONANT = 'ㅎ';
+    private static final char LAST_JAMO = 'ㅣ';
+
+    private static final int MEDIAL_COUNT = 21;
+    private static final int FINAL_COUNT = 28;
+
+    private static final String INITIALS = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+    private static final String[] MEDIALS = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ",
+            "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ",
+    };
+    private static final String[] FINALS = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ",
+            "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ",
+    };
+
+    private static final String COMPOUND_JAMO = "ㄳㄵㄶㄺㄻㄼㄽㄾㄿㅀㅄㅘㅙㅚㅝㅞㅟㅢ";
+    private static final String[] COMPOUND_JAMO_COMPONENTS = {
+            "ㄱㅅ", "ㄴㅈ", "ㄴㅎ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅂㅅ",
+            "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅡㅣ",
+    };
+
+    private Hangul() {
+    }
+
+    public static boolean isSyllable(char c) {
+        return c >= FIRST_SYLLABLE && c <= LAST_SYLLABLE;
+    }
+
+    public static boolean isJamo(char c) {
+        return c >= FIRST_JAMO && c <= LAST_JAMO;
+    }
+
+    public static boolean isConsonant(char c) {
+        return c >= FIRST_JAMO && c <= LAST_CONSONANT;
+    }
+
+    public static boolean containsHangul(String text) {
+        for (int i = 0; i < text.length(); ++i) {
+            final char c = text.charAt(i);
+            if (isSyllable(c) || isJamo(c)) return true;
+        }
+
+        return false;
+    }
+
+    public static boolean isChosung(String text) {
+        boolean hasConsonant = false;
+
+        for (int i = 0; i < text.length(); ++i) {
+            final char c = text.charAt(i);
+
+            if (isConsonant(c)) {
+                hasConsonant = true;
+            } else if (!Character.isWhitespace(c)) return false;
+        }
+
+        return hasConsonant;
+    }
+
+    public static String toJamo(String text) {
+        if (!containsHangul(text)) return text;
+
+        final StringBuilder jamo = new StringBuilder(text.length() * 3);
+
+        for (int i = 0; i < text.length(); ++i) {
+            final char c = text.charAt(i);
+
+            if (isSyllable(c)) {
+                final int index = c - FIRST_SYLLABLE;
+
+                jamo.append(INITIALS.charAt(index / (MEDIAL_COUNT * FINAL_COUNT)));
+                jamo.append(MEDIALS[index / FINAL_COUNT % MEDIAL_COUNT]);
+                jamo.append(FINALS[index % FINAL_COUNT]);
+            } else {
+                final int compoundIndex = COMPOUND_JAMO.indexOf(c);
+
+                if (compoundIndex != -1) {
+                    jamo.append(COMPOUND_JAMO_COMPONENTS[compoundIndex]);
+                } else {
+                    jamo.append(c);
+                }
+            }
+        }
+
+        return jamo.toString();
+    }
+
+    public static String toChosung(String text) {
+        if (!containsHangul(text)) return text;
+
+        final StringBuilder chosung = new StringBuilder(text.length());
+
+        for (int i = 0; i < text.length(); ++i) {
+            final char c = text.charAt(i);
+
+            if (isSyllable(c)) {
+                chosung.append(INITIALS.charAt((c - FIRST_SYLLABLE) / (MEDIAL_COUNT * FINAL_COUNT)));
+            } else {
+                chosung.append(c);
+            }
+        }
+
+        return chosung.toString();
+    }
+}
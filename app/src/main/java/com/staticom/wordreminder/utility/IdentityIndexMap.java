@@ -0,0 +1,95 @@
+package com.staticom.wordreminder.utility;
+
+import java.util.List;
+
+public class IdentityIndexMap {
+
+    private Object[] keys;
+    private int[] values;
+    private int size;
+
+    public IdentityIndexMap(int expectedSize) {
+        int capacity = 16;
+        while (capacity < expectedSize * 2) {
+            capacity <<= 1;
+        }
+
+        keys = new Object[capacity];
+        values = new int[capacity];
+    }
+
+    public static IdentityIndexMap of(List<?> list) {
+        final IdentityIndexMap map = new IdentityIndexMap(list.size());
+
+        for (int i = 0; i < list.size(); ++i) {
+            map.putIfAbsent(list.get(i), i);
+        }
+
+        return map;
+    }
+
+    private static int hash(Object key) {
+        final int hash = System.identityHashCode(key);
+
+        return hash ^ (hash >>> 16);
+    }
+
+    private int findSlot(Object key) {
+        final int mask = keys.length - 1;
+        int slot = hash(key) & mask;
+
+        while (keys[slot] != null && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+
+        return slot;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int get(Object key) {
+        final int slot = findSlot(key);
+
+        return keys[slot] != null ? values[slot] : -1;
+    }
+
+    public void put(Object key, int value) {
+        final int slot = findSlot(key);
+
+        if (keys[slot] == null) {
+            keys[slot] = key;
+            ++size;
+        }
+
+        values[slot] = value;
+
+        if (size * 2 > keys.length) {
+            resize();
+        }
+    }
+
+    public void putIfAbsent(Object key, int value) {
+        if (keys[findSlot(key)] == null) {
+            put(key, value);
+        }
+    }
+
+    private void resize() {
+        final Object[] oldKeys = keys;
+        final int[] oldValues = values;
+
+        keys = new Object[oldKeys.length * 2];
+        values = new int[oldValues.length * 2];
+
+        for (int i = 0; i < oldKeys.length; ++i) {
+            if (oldKeys[i] != null) {
+                final int slot = findSlot(oldKeys[i]);
+
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.staticom.wordreminder.utility;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+public class TextNormalizer {
+
+    public static class Key {
+
+        private final String text;
+        private final String normalizedText;
+        private String foldedText;
+        private String jamoText;
+        private String chosungText;
+
+        private Key(String text, String normalizedText) {
+            this.text = text;
+            this.normalizedText = normalizedText;
+        }
+
+        public String getNormalizedText() {
+            return normalizedText;
+        }
+
+        public String getFoldedText() {
+            if (foldedText == null) {
+                foldedText = fold(normalizedText);
+            }
+
+            return foldedText;
+        }
+
+        public String getJamoText() {
+            if (jamoText == null) {
+                jamoText = Hangul.toJamo(getFoldedText());
+            }
+
+            return jamoText;
+        }
+
+        public String getChosungText() {
+            if (chosungText == null) {
+                chosungText = Hangul.toChosung(normalizedText);
+            }
+
+            return chosungText;
+        }
+    }
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{Mn}+");
+
+    private TextNormalizer() {
+    }
+
+    public static String normalize(String text) {
+        return Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean isAscii(String text) {
+        for (int i = 0; i < text.length(); ++i) {
+            if (text.charAt(i) >= 0x80) return false;
+        }
+
+        return true;
+    }
+
+    public static String fold(String normalizedText) {
+        if (isAscii(normalizedText)) return normalizedText;
+
+        final String decomposedText = Normalizer.normalize(normalizedText, Normalizer.Form.NFD);
+
+        return Normalizer.normalize(COMBINING_MARKS.matcher(decomposedText).replaceAll(""), Normalizer.Form.NFC);
+    }
+
+    public static Key getKey(Key key, String text) {
+        if (key != null && key.text == text) return key;
+        else return new Key(text, normalize(text));
+    }
+}
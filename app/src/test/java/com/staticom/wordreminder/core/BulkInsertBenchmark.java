@@ -0,0 +1,50 @@
+package com.staticom.wordreminder.core;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class BulkInsertBenchmark {
+
+    private static final int[] WORD_COUNTS = {10000, 20000, 40000, 80000};
+    private static final int ROUNDS = 3;
+
+    private static Vocabulary insert(int wordCount) {
+        final Vocabulary vocabulary = new Vocabulary();
+
+        for (int i = 0; i < wordCount; ++i) {
+            final String name = "word" + i % (wordCount / 2);
+
+            if (vocabulary.containsWord(name)) {
+                vocabulary.findWord(name).addMeaning(new Meaning("meaning" + i, ""));
+            } else {
+                final Word word = new Word(name);
+
+                word.addMeaning(new Meaning("meaning" + i, ""));
+                vocabulary.addWord(word);
+            }
+        }
+
+        return vocabulary;
+    }
+
+    @Test
+    public void bulkInsert() {
+        insert(WORD_COUNTS[0]);
+
+        for (final int wordCount : WORD_COUNTS) {
+            long bestTime = Long.MAX_VALUE;
+
+            for (int i = 0; i < ROUNDS; ++i) {
+                final long startTime = System.nanoTime();
+                final Vocabulary vocabulary = insert(wordCount);
+
+                bestTime = Math.min(bestTime, System.nanoTime() - startTime);
+
+                assertEquals(wordCount / 2, vocabulary.getWords().size());
+            }
+
+            System.out.printf("%d inserts with duplicate checks: %.2f ms%n", wordCount, bestTime / 1e6);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.staticom.wordreminder.core;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.Assert.assertEquals;
+
+public class CompactEncodingBenchmark {
+
+    private static final int[] WORD_COUNTS = {1000, 10000, 100000};
+    private static final int ROUNDS = 5;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private static double measureWrite(Vocabulary vocabulary, Path path, boolean compactEncoding) throws Exception {
+        long bestTime = Long.MAX_VALUE;
+
+        for (int i = 0; i < ROUNDS; ++i) {
+            final long startTime = System.nanoTime();
+
+            TestVocabularies.write(vocabulary, path, compactEncoding);
+
+            bestTime = Math.min(bestTime, System.nanoTime() - startTime);
+        }
+
+        return bestTime / 1e6;
+    }
+
+    private static double measureRead(Path path, int wordCount) throws Exception {
+        long bestTime = Long.MAX_VALUE;
+
+        for (int i = 0; i < ROUNDS; ++i) {
+            final long startTime = System.nanoTime();
+
+            assertEquals(wordCount, TestVocabularies.read(path).getWords().size());
+
+            bestTime = Math.min(bestTime, System.nanoTime() - startTime);
+        }
+
+        return bestTime / 1e6;
+    }
+
+    @Test
+    public void compactEncoding() throws Exception {
+        for (final int wordCount : WORD_COUNTS) {
+            final Vocabulary vocabulary = TestVocabularies.create(wordCount, wordCount);
+            final Path legacyPath = folder.getRoot().toPath().resolve(wordCount + ".kv");
+            final Path compactPath = folder.getRoot().toPath().resolve(wordCount + ".compact.kv");
+
+            final double legacyWriteTime = measureWrite(vocabulary, legacyPath, false);
+            final double compactWriteTime = measureWrite(vocabulary, compactPath, true);
+            final double legacyReadTime = measureRead(legacyPath, wordCount);
+            final double compactReadTime = measureRead(compactPath, wordCount);
+
+            System.out.printf("%d words: size %d -> %d bytes, write %.2f -> %.2f ms, read %.2f -> %.2f ms%n",
+                    wordCount, Files.size(legacyPath), Files.size(compactPath),
+                    legacyWriteTime, compactWriteTime, legacyReadTime, compactReadTime);
+        }
+    }
+}
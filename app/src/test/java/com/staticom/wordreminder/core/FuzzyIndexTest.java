@@ -0,0 +1,162 @@
+package com.staticom.wordreminder.core;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+
+public class FuzzyIndexTest {
+
+    private static final String ALPHABET = "abcd가";
+
+    private static String createText(Random random) {
+        final StringBuilder builder = new StringBuilder();
+        final int length = 1 + random.nextInt(7);
+
+        for (int i = 0; i < length; ++i) {
+            builder.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+        }
+
+        return builder.toString();
+    }
+
+    private static Vocabulary createVocabulary(int wordCount, Random random) {
+        final Vocabulary vocabulary = new Vocabulary();
+
+        for (int i = 0; i < wordCount; ++i) {
+            vocabulary.addWord(new Word(createText(random)));
+        }
+
+        return vocabulary;
+    }
+
+    private static int getDistance(String a, String b) {
+        final int[][] distances = new int[a.length() + 1][b.length() + 1];
+
+        for (int i = 0; i <= a.length(); ++i) {
+            for (int j = 0; j <= b.length(); ++j) {
+                if (i == 0 || j == 0) {
+                    distances[i][j] = i + j;
+                } else {
+                    final int substitution = distances[i - 1][j - 1] + (a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1);
+
+                    distances[i][j] = Math.min(substitution, Math.min(distances[i - 1][j], distances[i][j - 1]) + 1);
+                }
+            }
+        }
+
+        return distances[a.length()][b.length()];
+    }
+
+    private static String getTerm(WordSnapshot word) {
+        return word.getWordKey().getNormalizedText();
+    }
+
+    private static List<String> scan(VocabularySnapshot snapshot, String query, int maxDistance) {
+        final List<String> result = new ArrayList<>();
+
+        for (final WordSnapshot word : snapshot.getWords()) {
+            if (getDistance(getTerm(word), query) <= maxDistance) {
+                result.add(getTerm(word));
+            }
+        }
+
+        result.sort((a, b) -> {
+            final int distanceA = getDistance(a, query);
+            final int distanceB = getDistance(b, query);
+
+            return distanceA != distanceB ? Integer.compare(distanceA, distanceB) : a.compareTo(b);
+        });
+
+        return result;
+    }
+
+    private static List<String> getTerms(List<WordSnapshot> words) {
+        final List<String> result = new ArrayList<>(words.size());
+
+        for (final WordSnapshot word : words) {
+            result.add(getTerm(word));
+        }
+
+        return result;
+    }
+
+    private static void assertMatchesScan(FuzzyIndex index, VocabularySnapshot snapshot, Random random) {
+        for (int i = 0; i < 50; ++i) {
+            final String query = createText(random);
+
+            for (int maxDistance = 0; maxDistance <= 3; ++maxDistance) {
+                final List<WordSnapshot> result = index.search(query, maxDistance);
+                final Set<WordSnapshot> resultSet = Collections.newSetFromMap(new IdentityHashMap<>());
+
+                resultSet.addAll(result);
+
+                assertEquals(scan(snapshot, query, maxDistance), getTerms(result));
+                assertEquals(result.size(), resultSet.size());
+
+                for (final WordSnapshot word : result) {
+                    assertEquals(word, snapshot.get(snapshot.getPosition(word)));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void search_matchesScan() {
+        final Random random = new Random(1);
+        final VocabularySnapshot snapshot = createVocabulary(500, random).getSnapshot();
+
+        assertMatchesScan(FuzzyIndex.build(snapshot), snapshot, random);
+    }
+
+    @Test
+    public void search_matchesScanAfterEdits() {
+        final Random random = new Random(2);
+        final Vocabulary vocabulary = createVocabulary(500, random);
+        final FuzzyIndex index = FuzzyIndex.build(vocabulary.getSnapshot());
+
+        for (int i = 0; i < 5; ++i) {
+            for (int j = 0; j < 50; ++j) {
+                final int size = vocabulary.getWords().size();
+
+                if (j % 3 == 0) {
+                    vocabulary.removeWord(vocabulary.getWord(random.nextInt(size)));
+                } else if (j % 3 == 1) {
+                    vocabulary.getWord(random.nextInt(size)).setWord(createText(random));
+                } else {
+                    vocabulary.addWord(new Word(createText(random)));
+                }
+            }
+
+            final VocabularySnapshot snapshot = vocabulary.getSnapshot();
+
+            index.update(snapshot);
+
+            assertMatchesScan(index, snapshot, random);
+        }
+    }
+
+    @Test
+    public void fuzzySearch_ranksByDistance() {
+        final Vocabulary vocabulary = new Vocabulary();
+
+        for (final String word : new String[]{"apply", "Apple", "maple", "banana", "appl"}) {
+            vocabulary.addWord(new Word(word));
+        }
+
+        final List<String> result = new ArrayList<>();
+
+        for (final Word word : vocabulary.fuzzySearch("APPLE", 2)) {
+            result.add(word.getWord());
+        }
+
+        assertEquals(Arrays.asList("Apple", "appl", "apply", "maple"), result);
+    }
+}
@@ -0,0 +1,51 @@
+package com.staticom.wordreminder.core;
+
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class FuzzySearchBenchmark {
+
+    private static final int WORD_COUNT = 100000;
+    private static final String[] QUERIES = {"wrod4243", "word99999", "wodr123", "xyzzy", "word1"};
+    private static final int MAX_DISTANCE = 2;
+    private static final int ROUNDS = 5;
+
+    @Test
+    public void fuzzySearch() {
+        final VocabularySnapshot snapshot = TestVocabularies.create(WORD_COUNT, 1).getSnapshot();
+
+        final long buildStartTime = System.nanoTime();
+        final FuzzyIndex index = FuzzyIndex.build(snapshot);
+        final long buildTime = System.nanoTime() - buildStartTime;
+
+        for (final String query : QUERIES) {
+            index.search(query, MAX_DISTANCE);
+        }
+
+        for (final String query : QUERIES) {
+            List<WordSnapshot> result = null;
+            long bestTime = Long.MAX_VALUE;
+
+            for (int i = 0; i < ROUNDS; ++i) {
+                final long startTime = System.nanoTime();
+                final List<WordSnapshot> words = index.search(query, MAX_DISTANCE);
+
+                bestTime = Math.min(bestTime, System.nanoTime() - startTime);
+
+                if (result != null) {
+                    assertEquals(result, words);
+                }
+
+                result = words;
+            }
+
+            System.out.printf("%d words, \"%s\" within %d: %d matches in %.3f ms%n",
+                    WORD_COUNT, query, MAX_DISTANCE, result.size(), bestTime / 1e6);
+        }
+
+        System.out.printf("%d words: fuzzy index build %.2f ms%n", WORD_COUNT, buildTime / 1e6);
+    }
+}
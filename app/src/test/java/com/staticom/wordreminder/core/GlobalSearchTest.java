@@ -0,0 +1,156 @@
+package com.staticom.wordreminder.core;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class GlobalSearchTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private static List<Word> search(GlobalSearch globalSearch, VocabularyList vocabularyList, String query) throws Exception {
+        final CompletableFuture<List<Word>> result = new CompletableFuture<>();
+
+        globalSearch.search(vocabularyList, query,
+                (searchedQuery, vocabulary, words) -> result.complete(words),
+                (searchedQuery, vocabulary, e) -> result.completeExceptionally(e));
+
+        return result.get(10, TimeUnit.SECONDS);
+    }
+
+    private static void save(VocabularyMetadata metadata) throws Exception {
+        metadata.saveVocabulary().get();
+        VocabularyPersistence.getInstance().waitForPendingSaves();
+    }
+
+    @Test
+    public void search_journaledVocabulary() throws Exception {
+        final Path path = folder.getRoot().toPath().resolve("deck.kv");
+        final Vocabulary vocabulary = new Vocabulary();
+
+        for (int i = 0; i < 100; ++i) {
+            final Word word = new Word("word" + i);
+
+            word.addMeaning(new Meaning("meaning" + i, ""));
+            vocabulary.addWord(word);
+        }
+
+        final VocabularyMetadata metadata = new VocabularyMetadata("deck", path, LocalDateTime.now());
+
+        metadata.setVocabulary(vocabulary);
+        save(metadata);
+
+        vocabulary.getWord(0).getMeaning(0).setMeaning("journaled");
+        save(metadata);
+
+        assertTrue(Files.exists(VocabularyJournal.getJournalPath(path)));
+
+        final VocabularyList vocabularyList = new VocabularyList();
+        final GlobalSearch globalSearch = new GlobalSearch(Runnable::run);
+
+        vocabularyList.addVocabulary(new VocabularyMetadata("deck", path, LocalDateTime.now()));
+
+        try {
+            assertEquals("word0", search(globalSearch, vocabularyList, "journaled").get(0).getWord());
+            assertEquals(Collections.emptyList(), search(globalSearch, vocabularyList, "meaning0"));
+
+            vocabulary.getWord(1).getMeaning(0).setMeaning("appended");
+            save(metadata);
+
+            assertEquals("word1", search(globalSearch, vocabularyList, "appended").get(0).getWord());
+        } finally {
+            globalSearch.close();
+        }
+    }
+
+    private static List<String> getWords(List<Word> words) {
+        final List<String> result = new ArrayList<>();
+
+        for (final Word word : words) {
+            result.add(word.getWord());
+        }
+
+        return result;
+    }
+
+    @Test
+    public void search_mergesJournalWithIndexedFile() throws Exception {
+        final Path path = folder.getRoot().toPath().resolve("deck.kv");
+        final Vocabulary vocabulary = TestVocabularies.create(300, 4);
+        final VocabularyMetadata metadata = new VocabularyMetadata("deck", path, LocalDateTime.now());
+
+        metadata.setVocabulary(vocabulary);
+        save(metadata);
+
+        assertTrue(Files.exists(SearchIndexFile.getIndexPath(path)));
+
+        final Word word = new Word("word12 added");
+
+        word.addMeaning(new Meaning("added", ""));
+        vocabulary.addWord(word);
+        vocabulary.getWord(0).setWord("word12 renamed");
+        vocabulary.removeWord(vocabulary.getWord(120));
+
+        final Tag removedTag = vocabulary.getTag(0);
+
+        for (final Meaning meaning : new ArrayList<>(removedTag.getMeanings())) {
+            meaning.removeTag(removedTag);
+        }
+
+        vocabulary.removeTag(removedTag);
+
+        save(metadata);
+
+        assertTrue(Files.exists(VocabularyJournal.getJournalPath(path)));
+
+        final VocabularyList vocabularyList = new VocabularyList();
+        final GlobalSearch globalSearch = new GlobalSearch(Runnable::run);
+
+        vocabularyList.addVocabulary(new VocabularyMetadata("deck", path, LocalDateTime.now()));
+
+        try {
+            for (final String query : new String[]{"word12", "word", "뜻4", "ad"}) {
+                assertEquals(getWords(vocabulary.search(query).getWords()),
+                        getWords(search(globalSearch, vocabularyList, query)));
+            }
+        } finally {
+            globalSearch.close();
+        }
+    }
+
+    @Test
+    public void search_reportsUnreadableVocabulary() throws Exception {
+        final Path path = folder.getRoot().toPath().resolve("broken.kv");
+
+        Files.write(path, new byte[]{1, 2, 3});
+
+        final VocabularyList vocabularyList = new VocabularyList();
+        final GlobalSearch globalSearch = new GlobalSearch(Runnable::run);
+        final CompletableFuture<VocabularyMetadata> failed = new CompletableFuture<>();
+
+        vocabularyList.addVocabulary(new VocabularyMetadata("broken", path, LocalDateTime.now()));
+
+        try {
+            globalSearch.search(vocabularyList, "word",
+                    (searchedQuery, vocabulary, words) -> failed.complete(null),
+                    (searchedQuery, vocabulary, e) -> failed.complete(vocabulary));
+
+            assertEquals(vocabularyList.getVocabulary(0), failed.get(10, TimeUnit.SECONDS));
+        } finally {
+            globalSearch.close();
+        }
+    }
+}
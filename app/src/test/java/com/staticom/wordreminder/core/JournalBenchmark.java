@@ -0,0 +1,52 @@
+package com.staticom.wordreminder.core;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+
+public class JournalBenchmark {
+
+    private static final int[] WORD_COUNTS = {1000, 10000, 100000};
+    private static final int ROUNDS = 5;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private static long save(VocabularyMetadata metadata) throws Exception {
+        final long startTime = System.nanoTime();
+
+        metadata.saveVocabulary().get();
+
+        return System.nanoTime() - startTime;
+    }
+
+    @Test
+    public void saveOneEdit() throws Exception {
+        for (final int wordCount : WORD_COUNTS) {
+            final Vocabulary vocabulary = TestVocabularies.create(wordCount, wordCount);
+            long bestFullSaveTime = Long.MAX_VALUE;
+            long bestAppendTime = Long.MAX_VALUE;
+
+            for (int i = 0; i < ROUNDS; ++i) {
+                final Path path = folder.getRoot().toPath().resolve(wordCount + "-" + i + ".kv");
+                final VocabularyMetadata metadata = new VocabularyMetadata("deck", path, LocalDateTime.now());
+
+                metadata.setVocabulary(vocabulary);
+                bestFullSaveTime = Math.min(bestFullSaveTime, save(metadata));
+                VocabularyPersistence.getInstance().waitForPendingSaves();
+
+                vocabulary.getWord(i).getMeaning(0).setExample("edited" + i);
+                bestAppendTime = Math.min(bestAppendTime, save(metadata));
+                VocabularyPersistence.getInstance().waitForPendingSaves();
+
+                vocabulary.stopTracking();
+            }
+
+            System.out.printf("%d words: full save %.2f ms, one-edit journal append %.2f ms%n",
+                    wordCount, bestFullSaveTime / 1e6, bestAppendTime / 1e6);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.staticom.wordreminder.core;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class MeaningTableTest {
+
+    private static Vocabulary createVocabulary() {
+        final Vocabulary vocabulary = new Vocabulary();
+
+        for (int i = 0; i < 4; ++i) {
+            final Word word = new Word("word" + i);
+
+            for (int j = 0; j < i; ++j) {
+                word.addMeaning(new Meaning("meaning" + i + "_" + j, ""));
+            }
+
+            vocabulary.addWord(word);
+        }
+
+        return vocabulary;
+    }
+
+    @Test
+    public void meaningTable_flattensMeaningsInDeckOrder() {
+        final Vocabulary vocabulary = createVocabulary();
+        final MeaningTable table = new MeaningTable(vocabulary);
+
+        assertEquals(6, table.size());
+        assertEquals(4, table.getWordCount());
+
+        int index = 0;
+
+        for (int i = 0; i < vocabulary.getWords().size(); ++i) {
+            assertEquals(index, table.getFirstMeaningIndex(i));
+
+            for (final Meaning meaning : vocabulary.getWord(i).getMeanings()) {
+                assertSame(meaning, table.getMeaning(index));
+                assertEquals(i, table.getWordIndex(index++));
+            }
+        }
+
+        assertEquals(table.size(), table.getFirstMeaningIndex(table.getWordCount()));
+    }
+
+    @Test
+    public void getRandomIndex_isUniformOverMeanings() {
+        final MeaningTable table = new MeaningTable(createVocabulary());
+        final Random random = new Random(1);
+        final int sampleCount = 60000;
+        final int[] counts = new int[table.size()];
+
+        for (int i = 0; i < sampleCount; ++i) {
+            ++counts[table.getRandomIndex(random)];
+        }
+
+        final double expected = (double)sampleCount / table.size();
+
+        for (final int count : counts) {
+            assertEquals(expected, count, expected * 0.05);
+        }
+    }
+
+    @Test
+    public void meaningTable_emptyVocabulary() {
+        final MeaningTable table = new MeaningTable(new Vocabulary());
+
+        assertEquals(0, table.size());
+        assertEquals(0, table.getWordCount());
+        assertEquals(0, table.getFirstMeaningIndex(0));
+    }
+}
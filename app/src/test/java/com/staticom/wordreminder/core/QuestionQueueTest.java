@@ -0,0 +1,83 @@
+package com.staticom.wordreminder.core;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+public class QuestionQueueTest {
+
+    private static final int PREFETCH_QUESTION_COUNT = 3;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private QuestionContext createContext(int meaningCount) {
+        final Vocabulary vocabulary = new Vocabulary();
+
+        for (int i = 0; i < meaningCount; ++i) {
+            final Word word = new Word("word" + i);
+
+            word.addMeaning(new Meaning("meaning" + i, ""));
+            vocabulary.addWord(word);
+        }
+
+        final QuestionContext context = new QuestionContext(new VocabularyMetadata("test", vocabulary));
+
+        context.addUsableType(QuestionType.WordToMeaning.shortAnswer());
+
+        return context;
+    }
+
+    private void answerQuestions(int meaningCount, int questionCount) throws Exception {
+        final Path path = folder.newFile("deck" + meaningCount + ".kv").toPath();
+        final QuestionContext context = createContext(meaningCount);
+
+        context.setSpacedRepetition(path);
+
+        final QuestionQueue queue = new QuestionQueue(context, question -> {}, PREFETCH_QUESTION_COUNT);
+        final Set<Meaning> answers = new HashSet<>();
+
+        try {
+            queue.prefetch();
+
+            for (int i = 0; i < questionCount; ++i) {
+                final Question question = queue.poll();
+
+                assertNotNull(question);
+                answers.add(question.getAnswer());
+
+                queue.review(question, i % 3 != 0);
+            }
+
+            queue.saveReviews().get();
+        } finally {
+            queue.close();
+        }
+
+        assertEquals(meaningCount, answers.size());
+    }
+
+    @Test
+    public void poll_singleMeaningDeck() throws Exception {
+        answerQuestions(1, 10);
+    }
+
+    @Test
+    public void poll_deckSmallerThanPrefetchDepth() throws Exception {
+        answerQuestions(2, 10);
+        answerQuestions(3, 10);
+    }
+
+    @Test
+    public void poll_deckAsLargeAsPrefetchDepth() throws Exception {
+        answerQuestions(4, 12);
+        answerQuestions(5, 15);
+    }
+}
@@ -0,0 +1,54 @@
+package com.staticom.wordreminder.core;
+
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+
+public class QuestionSchedulerBenchmark {
+
+    private static final int MEANING_COUNT = 50000;
+
+    @Test
+    public void drainWithoutDuplication() throws Exception {
+        final Vocabulary vocabulary = new Vocabulary();
+
+        for (int i = 0; i < MEANING_COUNT; ++i) {
+            final Word word = new Word("word" + i);
+
+            word.addMeaning(new Meaning("meaning" + i, ""));
+            vocabulary.addWord(word);
+        }
+
+        final QuestionContext context = new QuestionContext(new VocabularyMetadata("test", vocabulary));
+        final Set<Meaning> answers = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        context.addUsableType(QuestionType.WordToMeaning.shortAnswer());
+        context.setAvoidDuplication(true);
+
+        final long startTime = System.nanoTime();
+        long lastTime = startTime;
+        long lastQuarterTime = 0;
+
+        for (int i = 0; i < MEANING_COUNT; ++i) {
+            answers.add(context.createQuestion().getAnswer());
+
+            if ((i + 1) % (MEANING_COUNT / 4) == 0) {
+                final long time = System.nanoTime();
+
+                lastQuarterTime = time - lastTime;
+                lastTime = time;
+            }
+        }
+
+        final long totalTime = System.nanoTime() - startTime;
+
+        assertEquals(MEANING_COUNT, answers.size());
+
+        System.out.printf("%d meanings: drained in %.2f ms, last quarter %.2f ms%n",
+                MEANING_COUNT, totalTime / 1e6, lastQuarterTime / 1e6);
+    }
+}
@@ -0,0 +1,88 @@
+package com.staticom.wordreminder.core;
+
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class QuestionTypeTest {
+
+    private static void assertPermutation(QuestionType type, int meaningCount, Random random) {
+        final Set<Integer> indices = new HashSet<>();
+
+        for (int i = 0; i < meaningCount; ++i) {
+            final int index = type.getNextMeaningIndex(meaningCount, random);
+
+            assertTrue(index >= 0 && index < meaningCount);
+            assertTrue(indices.add(index));
+        }
+    }
+
+    @Test
+    public void getNextMeaningIndex_yieldsEachMeaningOncePerCycle() {
+        final QuestionType type = QuestionType.WordToMeaning.shortAnswer();
+        final Random random = new Random(1);
+
+        for (int i = 0; i < 5; ++i) {
+            assertPermutation(type, 100, random);
+        }
+    }
+
+    @Test
+    public void getNextMeaningIndex_restartsWhenMeaningCountChanges() {
+        final QuestionType type = QuestionType.WordToMeaning.shortAnswer();
+        final Random random = new Random(2);
+
+        for (int i = 0; i < 50; ++i) {
+            type.getNextMeaningIndex(100, random);
+        }
+
+        assertPermutation(type, 10, random);
+        assertPermutation(type, 1, random);
+    }
+
+    @Test
+    public void getNextMeaningIndex_isUniform() {
+        final int meaningCount = 5;
+        final int cycleCount = 20000;
+        final int[][] counts = new int[meaningCount][meaningCount];
+        final QuestionType type = QuestionType.MeaningToWord.shortAnswer();
+        final Random random = new Random(3);
+
+        for (int i = 0; i < cycleCount; ++i) {
+            for (int position = 0; position < meaningCount; ++position) {
+                ++counts[position][type.getNextMeaningIndex(meaningCount, random)];
+            }
+        }
+
+        final double expected = (double)cycleCount / meaningCount;
+
+        for (final int[] positionCounts : counts) {
+            for (final int count : positionCounts) {
+                assertEquals(expected, count, expected * 0.05);
+            }
+        }
+    }
+
+    @Test
+    public void createQuestion_avoidsDuplicationUntilDeckIsDrained() throws Exception {
+        final Vocabulary vocabulary = TestVocabularies.create(300, 4);
+        final QuestionContext context = new QuestionContext(new VocabularyMetadata("test", vocabulary));
+        final Set<Meaning> answers = new HashSet<>();
+        final int meaningCount = vocabulary.getMeaningCount();
+
+        context.addUsableType(QuestionType.WordToMeaning.shortAnswer());
+        context.setAvoidDuplication(true);
+
+        for (int i = 0; i < meaningCount; ++i) {
+            assertTrue(answers.add(context.createQuestion().getAnswer()));
+        }
+
+        assertEquals(meaningCount, answers.size());
+        assertTrue(answers.contains(context.createQuestion().getAnswer()));
+    }
+}
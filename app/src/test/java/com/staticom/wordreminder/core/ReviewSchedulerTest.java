@@ -0,0 +1,178 @@
+package com.staticom.wordreminder.core;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ReviewSchedulerTest {
+
+    private static final long NOW = 1_600_000_000_000L;
+    private static final long DAY = Duration.ofDays(1).toMillis();
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private static Vocabulary createVocabulary(int wordCount) {
+        final Vocabulary vocabulary = new Vocabulary();
+
+        for (int i = 0; i < wordCount; ++i) {
+            final Word word = new Word("word" + i);
+
+            word.addMeaning(new Meaning("meaning" + i, ""));
+            vocabulary.addWord(word);
+        }
+
+        return vocabulary;
+    }
+
+    private Path getVocabularyPath() {
+        return folder.getRoot().toPath().resolve("deck.kv");
+    }
+
+    private static int getRecordCount(Path vocabularyPath) throws Exception {
+        final byte[] file = Files.readAllBytes(ReviewScheduler.getReviewPath(vocabularyPath));
+
+        return ByteBuffer.wrap(file).order(ByteOrder.LITTLE_ENDIAN).getInt(8);
+    }
+
+    private static void save(ReviewScheduler scheduler) throws Exception {
+        scheduler.save().get();
+        VocabularyPersistence.getInstance().waitForPendingSaves();
+    }
+
+    @Test
+    public void poll_returnsEarliestDueMeaning() throws Exception {
+        final MeaningTable table = new MeaningTable(createVocabulary(100));
+        final ReviewScheduler scheduler = ReviewScheduler.load(getVocabularyPath(), table, false, new Random(1), NOW);
+
+        final int first = scheduler.poll();
+
+        scheduler.review(first, false, NOW);
+
+        for (int i = 1; i < table.size(); ++i) {
+            assertNotEquals(first, scheduler.poll());
+        }
+
+        assertEquals(first, scheduler.poll());
+        assertEquals(-1, scheduler.poll());
+    }
+
+    @Test
+    public void review_earlyAnswerKeepsInterval() throws Exception {
+        final MeaningTable table = new MeaningTable(createVocabulary(10));
+        final ReviewScheduler scheduler = ReviewScheduler.load(getVocabularyPath(), table, false, new Random(1), NOW);
+        final int index = scheduler.poll();
+
+        scheduler.review(index, true, NOW);
+        scheduler.review(index, true, NOW + DAY);
+
+        assertEquals(6, scheduler.getInterval(index));
+
+        for (int i = 0; i < 5; ++i) {
+            scheduler.review(index, true, NOW + DAY + i);
+        }
+
+        assertEquals(6, scheduler.getInterval(index));
+
+        scheduler.review(index, true, NOW + 8 * DAY);
+
+        assertEquals(15, scheduler.getInterval(index));
+    }
+
+    @Test
+    public void save_roundTrip() throws Exception {
+        final MeaningTable table = new MeaningTable(createVocabulary(10));
+        final ReviewScheduler scheduler = ReviewScheduler.load(getVocabularyPath(), table, false, new Random(1), NOW);
+
+        for (int i = 0; i < table.size(); ++i) {
+            final int index = scheduler.poll();
+
+            scheduler.review(index, table.getMeaning(index).getMeaning().equals("meaning3"), NOW);
+        }
+
+        save(scheduler);
+
+        final ReviewScheduler reloaded = ReviewScheduler.load(getVocabularyPath(), table, false, new Random(2), NOW + DAY / 2);
+
+        for (int i = 1; i < table.size(); ++i) {
+            assertNotEquals("meaning3", table.getMeaning(reloaded.poll()).getMeaning());
+        }
+
+        assertEquals("meaning3", table.getMeaning(reloaded.poll()).getMeaning());
+    }
+
+    @Test
+    public void save_dropsDeletedMeaningsInFullSession() throws Exception {
+        final Vocabulary vocabulary = createVocabulary(10);
+        final ReviewScheduler scheduler =
+                ReviewScheduler.load(getVocabularyPath(), new MeaningTable(vocabulary), false, new Random(1), NOW);
+
+        scheduler.review(scheduler.poll(), true, NOW);
+        save(scheduler);
+
+        for (int i = 0; i < 5; ++i) {
+            vocabulary.removeWord(vocabulary.getWord(0));
+        }
+
+        final ReviewScheduler full =
+                ReviewScheduler.load(getVocabularyPath(), new MeaningTable(vocabulary), false, new Random(1), NOW);
+
+        full.review(full.poll(), true, NOW);
+        save(full);
+
+        assertEquals(5, getRecordCount(getVocabularyPath()));
+    }
+
+    @Test
+    public void save_keepsOtherMeaningsInPartialSession() throws Exception {
+        final Vocabulary vocabulary = createVocabulary(10);
+        final ReviewScheduler scheduler =
+                ReviewScheduler.load(getVocabularyPath(), new MeaningTable(vocabulary), false, new Random(1), NOW);
+
+        scheduler.review(scheduler.poll(), true, NOW);
+        save(scheduler);
+
+        final Vocabulary subset = new Vocabulary();
+
+        for (int i = 0; i < 3; ++i) {
+            final Word word = new Word(vocabulary.getWord(i).getWord());
+
+            word.addMeaningRef(vocabulary.getWord(i).getMeaning(0));
+            subset.addWord(word);
+        }
+
+        final ReviewScheduler partial =
+                ReviewScheduler.load(getVocabularyPath(), new MeaningTable(subset), true, new Random(1), NOW);
+
+        partial.review(partial.poll(), true, NOW);
+        save(partial);
+
+        assertEquals(10, getRecordCount(getVocabularyPath()));
+    }
+
+    @Test
+    public void load_ignoresCorruptedFile() throws Exception {
+        final MeaningTable table = new MeaningTable(createVocabulary(10));
+
+        Files.write(ReviewScheduler.getReviewPath(getVocabularyPath()), new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13});
+
+        final ReviewScheduler scheduler = ReviewScheduler.load(getVocabularyPath(), table, false, new Random(1), NOW);
+
+        for (int i = 0; i < table.size(); ++i) {
+            assertTrue(scheduler.poll() >= 0);
+        }
+
+        assertEquals(-1, scheduler.poll());
+    }
+}
@@ -0,0 +1,73 @@
+package com.staticom.wordreminder.core;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+public class SaveBenchmark {
+
+    private static final int[] WORD_COUNTS = {12500, 25000, 50000};
+    private static final int RELATIONS_PER_WORD = 4;
+    private static final int TAGS_PER_MEANING = 3;
+    private static final int ROUNDS = 5;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private static Vocabulary createDenseVocabulary(int wordCount) {
+        final Random random = new Random(wordCount);
+        final Vocabulary vocabulary = TestVocabularies.create(wordCount, wordCount);
+
+        for (int i = 0; i < 100; ++i) {
+            vocabulary.addTag(new Tag(vocabulary, "dense" + i));
+        }
+
+        for (final Word word : vocabulary.getWords()) {
+            for (int i = 0; i < RELATIONS_PER_WORD; ++i) {
+                word.addRelation(vocabulary.getWord(random.nextInt(wordCount)), "dense" + i);
+            }
+
+            for (final Meaning meaning : word.getMeanings()) {
+                for (int i = 0; i < TAGS_PER_MEANING; ++i) {
+                    meaning.addTag(vocabulary.getTag(random.nextInt(vocabulary.getTags().size())));
+                }
+            }
+        }
+
+        return vocabulary;
+    }
+
+    @Test
+    public void saveDenseRelations() throws Exception {
+        final Path warmUpPath = folder.getRoot().toPath().resolve("warm-up.kv");
+        final Vocabulary warmUpVocabulary = createDenseVocabulary(WORD_COUNTS[0]);
+
+        for (int i = 0; i < ROUNDS; ++i) {
+            TestVocabularies.write(warmUpVocabulary, warmUpPath, true);
+        }
+
+        for (final int wordCount : WORD_COUNTS) {
+            final Vocabulary vocabulary = createDenseVocabulary(wordCount);
+            final Path path = folder.getRoot().toPath().resolve(wordCount + ".kv");
+            long bestTime = Long.MAX_VALUE;
+
+            for (int i = 0; i < ROUNDS; ++i) {
+                final long startTime = System.nanoTime();
+
+                TestVocabularies.write(vocabulary, path, true);
+
+                bestTime = Math.min(bestTime, System.nanoTime() - startTime);
+            }
+
+            assertEquals(TestVocabularies.dump(vocabulary), TestVocabularies.dump(TestVocabularies.read(path)));
+
+            System.out.printf("%d words, %d relations per word: save %.2f ms%n",
+                    wordCount, RELATIONS_PER_WORD, bestTime / 1e6);
+        }
+    }
+}
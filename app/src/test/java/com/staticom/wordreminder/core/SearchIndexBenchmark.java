@@ -0,0 +1,68 @@
+package com.staticom.wordreminder.core;
+
+import com.staticom.wordreminder.utility.TextNormalizer;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class SearchIndexBenchmark {
+
+    private static final int[] WORD_COUNTS = {10000, 100000};
+    private static final String[] QUERIES = {"word123", "sentence 99", "meaning", "pron4242", "뜻77_0", "missing"};
+    private static final int ROUNDS = 5;
+
+    private static List<WordSnapshot> scan(VocabularySnapshot snapshot, String query) {
+        final List<WordSnapshot> result = new ArrayList<>();
+
+        for (final WordSnapshot word : snapshot.getWords()) {
+            if (word.matches(SearchMode.PLAIN, query)) {
+                result.add(word);
+            }
+        }
+
+        return result;
+    }
+
+    @Test
+    public void searchIndex() {
+        for (final int wordCount : WORD_COUNTS) {
+            final Vocabulary vocabulary = TestVocabularies.create(wordCount, wordCount);
+            final VocabularySnapshot snapshot = vocabulary.getSnapshot();
+
+            scan(snapshot, "warm up");
+
+            final long buildStartTime = System.nanoTime();
+            final SearchIndex index = SearchIndex.build(snapshot, SearchMode.PLAIN);
+            final long buildTime = System.nanoTime() - buildStartTime;
+
+            for (final String query : QUERIES) {
+                final String normalizedQuery = TextNormalizer.normalize(query);
+                long bestScanTime = Long.MAX_VALUE;
+                long bestIndexTime = Long.MAX_VALUE;
+
+                for (int i = 0; i < ROUNDS; ++i) {
+                    final long scanStartTime = System.nanoTime();
+                    final List<WordSnapshot> expected = scan(snapshot, normalizedQuery);
+
+                    bestScanTime = Math.min(bestScanTime, System.nanoTime() - scanStartTime);
+
+                    final long indexStartTime = System.nanoTime();
+                    final List<WordSnapshot> result = index.search(normalizedQuery);
+
+                    bestIndexTime = Math.min(bestIndexTime, System.nanoTime() - indexStartTime);
+
+                    assertEquals(expected, result);
+                }
+
+                System.out.printf("%d meanings, \"%s\": scan %.3f ms, index %.3f ms%n",
+                        vocabulary.getMeaningCount(), query, bestScanTime / 1e6, bestIndexTime / 1e6);
+            }
+
+            System.out.printf("%d meanings: index build %.2f ms%n", vocabulary.getMeaningCount(), buildTime / 1e6);
+        }
+    }
+}
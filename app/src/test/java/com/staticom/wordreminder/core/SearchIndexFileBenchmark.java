@@ -0,0 +1,54 @@
+package com.staticom.wordreminder.core;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public class SearchIndexFileBenchmark {
+
+    private static final int WORD_COUNT = 100000;
+    private static final String QUERY = "word4242";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private static long searchAfterLoad(Path path) throws Exception {
+        final Vocabulary vocabulary = VocabularyPersistence.getInstance().loadVocabulary(path);
+        final long startTime = System.nanoTime();
+
+        vocabulary.search(QUERY);
+
+        return System.nanoTime() - startTime;
+    }
+
+    @Test
+    public void firstSearch() throws Exception {
+        final Path path = folder.getRoot().toPath().resolve("deck.kv");
+        final Path indexPath = SearchIndexFile.getIndexPath(path);
+        final Vocabulary vocabulary = TestVocabularies.create(WORD_COUNT, 1);
+
+        TestVocabularies.write(vocabulary, path, true);
+
+        final long writeStartTime = System.nanoTime();
+
+        SearchIndexFile.write(path, ByteBuffer.wrap(Files.readAllBytes(path)), vocabulary.getSnapshot());
+
+        final long writeTime = System.nanoTime() - writeStartTime;
+
+        searchAfterLoad(path);
+
+        final long indexedTime = searchAfterLoad(path);
+        final long indexSize = Files.size(indexPath);
+
+        Files.delete(indexPath);
+
+        final long unindexedTime = searchAfterLoad(path);
+
+        System.out.printf("%d words: first search %.2f ms without sidecar, %.2f ms with sidecar (%d bytes, written in %.2f ms)%n",
+                WORD_COUNT, unindexedTime / 1e6, indexedTime / 1e6, indexSize, writeTime / 1e6);
+    }
+}
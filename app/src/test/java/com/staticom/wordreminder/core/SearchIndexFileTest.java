@@ -0,0 +1,176 @@
+package com.staticom.wordreminder.core;
+
+import com.staticom.wordreminder.utility.TextNormalizer;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class SearchIndexFileTest {
+
+    private static final String[] QUERIES = {"word12", "sentence 5", "pron44", "뜻3_0", "ㄸ", "missing"};
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private Path getPath() {
+        return folder.getRoot().toPath().resolve("deck.kv");
+    }
+
+    private ByteBuffer readFile() throws Exception {
+        return ByteBuffer.wrap(Files.readAllBytes(getPath()));
+    }
+
+    private Vocabulary writeWithIndex(int wordCount) throws Exception {
+        final Vocabulary vocabulary = TestVocabularies.create(wordCount, wordCount);
+
+        TestVocabularies.write(vocabulary, getPath(), true);
+        SearchIndexFile.write(getPath(), readFile(), vocabulary.getSnapshot());
+
+        return vocabulary;
+    }
+
+    private static List<WordSnapshot> scan(VocabularySnapshot snapshot, SearchMode mode, String query) {
+        final List<WordSnapshot> result = new ArrayList<>();
+
+        for (final WordSnapshot word : snapshot.getWords()) {
+            if (word.matches(mode, query)) {
+                result.add(word);
+            }
+        }
+
+        return result;
+    }
+
+    @Test
+    public void open_roundTrip() throws Exception {
+        writeWithIndex(200);
+
+        final ByteBuffer file = readFile();
+        final Vocabulary vocabulary = Vocabulary.readFromByteBuffer(file);
+        final SearchIndexFile indexFile = SearchIndexFile.open(getPath(), file, vocabulary.getWords().size());
+
+        assertNotNull(indexFile);
+
+        final VocabularySnapshot snapshot = vocabulary.getSnapshot();
+
+        for (final SearchMode mode : SearchMode.values()) {
+            final SearchIndex index = SearchIndex.load(snapshot, mode, indexFile.getTable(mode));
+
+            for (final String query : QUERIES) {
+                final String modeQuery = mode.getQuery(TextNormalizer.normalize(query));
+                if (modeQuery.length() < SearchIndex.GRAM_LENGTH) continue;
+
+                assertEquals(scan(snapshot, mode, modeQuery), index.search(modeQuery));
+            }
+        }
+    }
+
+    @Test
+    public void load_searchesLikeFreshVocabulary() throws Exception {
+        final Vocabulary vocabulary = writeWithIndex(200);
+        final ByteBuffer file = readFile();
+        final Vocabulary loadedVocabulary = Vocabulary.readFromByteBuffer(file);
+
+        SearchIndexFile.load(getPath(), file, loadedVocabulary);
+
+        for (final String query : QUERIES) {
+            assertEquals(TestVocabularies.dump(vocabulary.search(query)),
+                    TestVocabularies.dump(loadedVocabulary.search(query)));
+        }
+    }
+
+    @Test
+    public void open_rejectsChangedVocabulary() throws Exception {
+        writeWithIndex(100);
+
+        final byte[] file = Files.readAllBytes(getPath());
+
+        file[file.length - 1] ^= 1;
+
+        assertNull(SearchIndexFile.open(getPath(), ByteBuffer.wrap(file), 100));
+        assertNull(SearchIndexFile.open(getPath(), readFile(), 99));
+    }
+
+    @Test
+    public void open_rejectsCorruptedIndex() throws Exception {
+        writeWithIndex(100);
+
+        final Path indexPath = SearchIndexFile.getIndexPath(getPath());
+        final byte[] index = Files.readAllBytes(indexPath);
+
+        try (final RandomAccessFile indexFile = new RandomAccessFile(indexPath.toFile(), "rw")) {
+            indexFile.setLength(index.length - 1);
+        }
+
+        assertNull(SearchIndexFile.open(getPath(), readFile(), 100));
+
+        index[0] ^= 1;
+        Files.write(indexPath, index);
+
+        assertNull(SearchIndexFile.open(getPath(), readFile(), 100));
+    }
+
+    @Test
+    public void open_missingIndex() throws Exception {
+        TestVocabularies.write(TestVocabularies.create(10, 1), getPath(), true);
+
+        assertNull(SearchIndexFile.open(getPath(), readFile(), 10));
+    }
+
+    @Test
+    public void save_writesIndex() throws Exception {
+        final VocabularyMetadata metadata = new VocabularyMetadata("deck", getPath(), LocalDateTime.now());
+
+        metadata.setVocabulary(TestVocabularies.create(100, 2));
+        metadata.saveVocabulary().get();
+        VocabularyPersistence.getInstance().waitForPendingSaves();
+
+        assertTrue(Files.exists(SearchIndexFile.getIndexPath(getPath())));
+        assertNotNull(SearchIndexFile.open(getPath(), readFile(), 100));
+
+        metadata.deleteVocabulary().get();
+
+        assertTrue(Files.notExists(SearchIndexFile.getIndexPath(getPath())));
+    }
+
+    @Test
+    public void load_journaledVocabularyUsesIndexWithReplayedChanges() throws Exception {
+        final VocabularyMetadata metadata = new VocabularyMetadata("deck", getPath(), LocalDateTime.now());
+        final Vocabulary vocabulary = TestVocabularies.create(200, 3);
+
+        metadata.setVocabulary(vocabulary);
+        metadata.saveVocabulary().get();
+
+        final Word word = new Word("journaled word");
+
+        word.addMeaning(new Meaning("journaled meaning", ""));
+        vocabulary.addWord(word);
+        vocabulary.getWord(12).setWord("renamed");
+        vocabulary.removeWord(vocabulary.getWord(44));
+
+        metadata.saveVocabulary().get();
+
+        assertTrue(Files.exists(VocabularyJournal.getJournalPath(getPath())));
+
+        final Vocabulary loadedVocabulary = VocabularyPersistence.getInstance().loadVocabulary(getPath());
+
+        for (final String query : new String[]{"word12", "renamed", "journaled", "word44", "pron44", "sentence 5"}) {
+            assertEquals(TestVocabularies.dump(vocabulary.search(query)),
+                    TestVocabularies.dump(loadedVocabulary.search(query)));
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.staticom.wordreminder.core;
+
+import com.staticom.wordreminder.utility.BinaryStream;
+import com.staticom.wordreminder.utility.TextNormalizer;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class SearchIndexTest {
+
+    private static final String[] SYLLABLES = {"가", "나", "다", "라", "마", "바", "사", "아", "ab", "cd", "ef", "gh"};
+
+    private static String createText(Random random) {
+        final StringBuilder builder = new StringBuilder();
+        final int length = 2 + random.nextInt(5);
+
+        for (int i = 0; i < length; ++i) {
+            builder.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+        }
+
+        return builder.toString();
+    }
+
+    private static Vocabulary createVocabulary(int wordCount, Random random) {
+        final Vocabulary vocabulary = new Vocabulary();
+
+        for (int i = 0; i < wordCount; ++i) {
+            final Word word = new Word(createText(random) + i);
+
+            word.addMeaning(new Meaning(createText(random), createText(random), createText(random)));
+            vocabulary.addWord(word);
+        }
+
+        return vocabulary;
+    }
+
+    private static void editWords(Vocabulary vocabulary, Random random) {
+        for (int i = 0; i < vocabulary.getWords().size(); i += 3) {
+            final Word word = vocabulary.getWord(i);
+
+            word.getMeaning(0).setMeaning(createText(random));
+
+            if (i % 2 == 0) {
+                word.getMeaning(0).setExample(createText(random));
+            }
+        }
+
+        vocabulary.removeWord(vocabulary.getWord(random.nextInt(vocabulary.getWords().size())));
+        vocabulary.addWord(new Word(createText(random)));
+    }
+
+    private static List<WordSnapshot> scan(VocabularySnapshot snapshot, SearchMode mode, String query) {
+        final List<WordSnapshot> result = new ArrayList<>();
+
+        for (final WordSnapshot word : snapshot.getWords()) {
+            if (word.matches(mode, query)) {
+                result.add(word);
+            }
+        }
+
+        return result;
+    }
+
+    private static byte[] write(SearchIndex index) throws Exception {
+        final BinaryStream stream = new BinaryStream(0);
+
+        index.write(stream);
+
+        final ByteBuffer buffer = stream.toByteBuffer();
+        final byte[] bytes = new byte[buffer.remaining()];
+
+        buffer.get(bytes);
+
+        return bytes;
+    }
+
+    @Test
+    public void search_matchesScanAfterEdits() {
+        final Random random = new Random(1);
+        final Vocabulary vocabulary = createVocabulary(500, random);
+        final SearchIndex index = SearchIndex.build(vocabulary.getSnapshot(), SearchMode.JAMO);
+
+        editWords(vocabulary, random);
+
+        final VocabularySnapshot snapshot = vocabulary.getSnapshot();
+
+        index.update(snapshot);
+
+        for (int i = 0; i < 100; ++i) {
+            final String query = SearchMode.JAMO.getQuery(TextNormalizer.normalize(createText(random)));
+            if (query.length() < SearchIndex.GRAM_LENGTH) continue;
+
+            assertEquals(scan(snapshot, SearchMode.JAMO, query), index.search(query));
+        }
+    }
+
+    @Test
+    public void write_afterEditsMatchesFreshBuild() throws Exception {
+        final Random random = new Random(2);
+        final Vocabulary vocabulary = createVocabulary(500, random);
+        final SearchIndex index = SearchIndex.build(vocabulary.getSnapshot(), SearchMode.JAMO);
+
+        editWords(vocabulary, random);
+        index.update(vocabulary.getSnapshot());
+        index.search(SearchMode.JAMO.getQuery("가나다"));
+        editWords(vocabulary, random);
+        index.update(vocabulary.getSnapshot());
+
+        assertArrayEquals(write(SearchIndex.build(vocabulary.getSnapshot(), SearchMode.JAMO)), write(index));
+    }
+
+    @Test
+    public void search_plainModeMatchesScan() {
+        final Random random = new Random(3);
+        final Vocabulary vocabulary = createVocabulary(500, random);
+        final VocabularySnapshot snapshot = vocabulary.getSnapshot();
+        final SearchIndex index = SearchIndex.build(snapshot, SearchMode.PLAIN);
+
+        for (int i = 0; i < 100; ++i) {
+            final String query = TextNormalizer.normalize(createText(random));
+            if (query.length() < SearchIndex.GRAM_LENGTH) continue;
+
+            assertEquals(scan(snapshot, SearchMode.PLAIN, query), index.search(query));
+        }
+    }
+
+    @Test
+    public void search_coversEveryField() {
+        final Vocabulary vocabulary = new Vocabulary();
+        final Word word = new Word("Apple");
+
+        word.addMeaning(new Meaning("Fruit", "ˈæpəl", "An apple a day"));
+        vocabulary.addWord(word);
+        vocabulary.addWord(new Word("banana"));
+
+        for (final String query : new String[]{"APPL", "fruit", "ˈæp", "A DAY"}) {
+            final Vocabulary result = vocabulary.search(query);
+
+            assertEquals(1, result.getWords().size());
+            assertEquals("Apple", result.getWord(0).getWord());
+        }
+
+        assertEquals(0, vocabulary.search("cherry").getWords().size());
+    }
+
+    @Test
+    public void search_ignoresAccentsButKeepsHangul() {
+        final Vocabulary vocabulary = new Vocabulary();
+
+        vocabulary.addWord(new Word("Café"));
+        vocabulary.addWord(new Word("naive"));
+        vocabulary.addWord(new Word("한국어"));
+
+        for (final String query : new String[]{"cafe", "CAFÉ", "cafe\u0301"}) {
+            final Vocabulary result = vocabulary.search(query);
+
+            assertEquals(1, result.getWords().size());
+            assertEquals("Café", result.getWord(0).getWord());
+        }
+
+        assertEquals("naive", vocabulary.search("naïve").getWord(0).getWord());
+        assertEquals("한국어", vocabulary.search("한국").getWord(0).getWord());
+        assertEquals("한국어", vocabulary.search("ㅎㄱ").getWord(0).getWord());
+        assertEquals("한국", TextNormalizer.fold("한국"));
+        assertEquals("cafe", TextNormalizer.fold(TextNormalizer.normalize("Café")));
+    }
+}
@@ -0,0 +1,123 @@
+package com.staticom.wordreminder.core;
+
+import com.staticom.wordreminder.utility.TextNormalizer;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class SearchRankerTest {
+
+    private static WordSnapshot createWord(String word, String meaning, String pronunciation, String example) {
+        final Word result = new Word(word);
+
+        result.addMeaning(new Meaning(meaning, pronunciation, example));
+
+        return new WordSnapshot(result);
+    }
+
+    @Test
+    public void getScore_weightsFieldsAndMatches() {
+        final SearchRanker ranker = new SearchRanker(TextNormalizer.normalize("run"));
+        final WordSnapshot[] words = {
+                createWord("run", "", "", ""),
+                createWord("runner", "", "", ""),
+                createWord("outrun", "", "", ""),
+                createWord("a", "run", "", ""),
+                createWord("b", "running", "", ""),
+                createWord("c", "", "run", ""),
+                createWord("d", "", "", "run"),
+                createWord("e", "", "", "")
+        };
+
+        for (int i = 1; i < words.length; ++i) {
+            assertTrue(ranker.getScore(words[i - 1]) > ranker.getScore(words[i]));
+        }
+
+        assertEquals(0, ranker.getScore(words[words.length - 1]));
+    }
+
+    @Test
+    public void getScore_usesBestMeaning() {
+        final Word word = new Word("a");
+
+        word.addMeaning(new Meaning("outrun", ""));
+        word.addMeaning(new Meaning("run", ""));
+
+        final SearchRanker ranker = new SearchRanker("run");
+
+        assertEquals(ranker.getScore(createWord("b", "run", "", "")), ranker.getScore(new WordSnapshot(word)));
+    }
+
+    @Test
+    public void getTopWords_matchesFullSort() {
+        final Random random = new Random(1);
+        final String[] texts = {"run", "runner", "outrun", "rung", "brunch", "walk"};
+        final List<WordSnapshot> words = new ArrayList<>();
+
+        for (int i = 0; i < 1000; ++i) {
+            words.add(createWord(texts[random.nextInt(texts.length)] + (i % 2 == 0 ? "" : i),
+                    texts[random.nextInt(texts.length)], texts[random.nextInt(texts.length)], ""));
+        }
+
+        final SearchRanker ranker = new SearchRanker("run");
+        final List<WordSnapshot> sortedWords = new ArrayList<>(words);
+
+        sortedWords.sort(Comparator.comparingInt(ranker::getScore).reversed());
+
+        for (final int count : new int[]{0, 1, 10, 100, 1000, 2000}) {
+            assertEquals(sortedWords.subList(0, Math.min(count, words.size())), ranker.getTopWords(words, count));
+        }
+    }
+
+    @Test
+    public void toSearchResult_keepsRemainingWordsInOrderAfterPage() {
+        final Vocabulary vocabulary = new Vocabulary();
+        final String[][] words = {{"a", ""}, {"b", ""}, {"run", ""}, {"c", "run"}, {"d", ""}};
+
+        for (final String[] word : words) {
+            final Word result = new Word(word[0]);
+
+            result.addMeaning(new Meaning(word[1], "", word[1].isEmpty() ? "run" : ""));
+            vocabulary.addWord(result);
+        }
+
+        final VocabularySnapshot snapshot = vocabulary.getSnapshot();
+        final List<WordSnapshot> page = new SearchRanker("run").getTopWords(snapshot.getWords(), 2);
+        final SearchResult searchResult = snapshot.toSearchResult(page, snapshot.getWords());
+        final List<String> result = new ArrayList<>();
+
+        for (int i = 0; i < searchResult.size(); ++i) {
+            result.add(searchResult.getWord(i).getWord());
+        }
+
+        assertEquals(Arrays.asList("run", "c", "a", "b", "d"), result);
+    }
+
+    @Test
+    public void rankedSearch_returnsBestMatchesFirst() {
+        final Vocabulary vocabulary = new Vocabulary();
+
+        for (final String word : new String[]{"outrun", "runner", "Run", "brunch"}) {
+            final Word result = new Word(word);
+
+            result.addMeaning(new Meaning(word.equals("brunch") ? "run late" : "", ""));
+            vocabulary.addWord(result);
+        }
+
+        final List<String> result = new ArrayList<>();
+
+        for (final Word word : vocabulary.rankedSearch("RUN", 3)) {
+            result.add(word.getWord());
+        }
+
+        assertEquals(Arrays.asList("Run", "runner", "outrun"), result);
+    }
+}
@@ -0,0 +1,80 @@
+package com.staticom.wordreminder.core;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class SearchSessionTest {
+
+    private static int[] getIndices(SearchResult searchResult) {
+        final int[] indices = new int[searchResult.size()];
+
+        for (int i = 0; i < indices.length; ++i) {
+            indices[i] = searchResult.getIndex(i);
+        }
+
+        Arrays.sort(indices);
+
+        return indices;
+    }
+
+    private static SearchResult search(SearchSession session, BlockingQueue<Runnable> callbacks,
+                                       Vocabulary vocabulary, String query) throws InterruptedException {
+        final List<SearchResult> results = new ArrayList<>();
+
+        session.search(vocabulary, query, (searchedQuery, searchResult) -> results.add(searchResult));
+
+        while (results.isEmpty()) {
+            callbacks.take().run();
+        }
+
+        return results.get(0);
+    }
+
+    @Test
+    public void search_refinedQueryMatchesFreshSearch() throws Exception {
+        final Vocabulary vocabulary = TestVocabularies.create(2000, 1);
+        final BlockingQueue<Runnable> callbacks = new LinkedBlockingQueue<>();
+        final SearchSession session = new SearchSession(callbacks::add);
+
+        for (final String query : new String[]{"w", "wo", "word", "word1", "word14", "word14é"}) {
+            final SearchSession freshSession = new SearchSession(callbacks::add);
+            final SearchResult refinedResult = search(session, callbacks, vocabulary, query);
+            final SearchResult freshResult = search(freshSession, callbacks, vocabulary, query);
+
+            freshSession.close();
+
+            assertArrayEquals(query, getIndices(freshResult), getIndices(refinedResult));
+        }
+
+        session.close();
+    }
+
+    @Test
+    public void cancel_dropsStaleResults() throws Exception {
+        final Vocabulary vocabulary = TestVocabularies.create(2000, 2);
+        final BlockingQueue<Runnable> callbacks = new LinkedBlockingQueue<>();
+        final SearchSession session = new SearchSession(callbacks::add);
+        final List<String> queries = new ArrayList<>();
+
+        session.search(vocabulary, "word", (searchedQuery, searchResult) -> queries.add(searchedQuery));
+        session.cancel();
+        session.search(vocabulary, "word1", (searchedQuery, searchResult) -> queries.add(searchedQuery));
+
+        while (queries.isEmpty()) {
+            callbacks.take().run();
+        }
+
+        session.close();
+
+        assertEquals(Collections.singletonList("word1"), queries);
+    }
+}
@@ -0,0 +1,94 @@
+package com.staticom.wordreminder.core;
+
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Random;
+
+final class TestVocabularies {
+
+    private static final int TAG_COUNT = 5;
+
+    private TestVocabularies() {
+    }
+
+    static Vocabulary create(int wordCount, long seed) {
+        final Random random = new Random(seed);
+        final Vocabulary vocabulary = new Vocabulary();
+
+        for (int i = 0; i < TAG_COUNT; ++i) {
+            vocabulary.addTag(new Tag(vocabulary, "tag" + i + "태그"));
+        }
+
+        for (int i = 0; i < wordCount; ++i) {
+            final Word word = new Word("word" + i + (i % 7 == 0 ? "é" : ""));
+            final int meaningCount = i % 3 == 0 ? 1 + random.nextInt(3) : 1;
+
+            for (int j = 0; j < meaningCount; ++j) {
+                final Meaning meaning = new Meaning("뜻" + i + "_" + j + " meaning", i % 2 == 0 ? "pron" + i : "");
+
+                if (i % 5 == 0) {
+                    meaning.setExample("example sentence " + i);
+                }
+
+                word.addMeaning(meaning);
+
+                if (i % 4 == 0) {
+                    meaning.addTag(vocabulary.getTag(random.nextInt(TAG_COUNT)));
+                }
+            }
+
+            vocabulary.addWord(word);
+        }
+
+        for (int i = 1; i < wordCount; i += 3) {
+            vocabulary.getWord(i).addRelation(vocabulary.getWord(random.nextInt(wordCount)), "relation" + i);
+        }
+
+        return vocabulary;
+    }
+
+    static String dump(Vocabulary vocabulary) {
+        final StringBuilder builder = new StringBuilder();
+
+        for (final Tag tag : vocabulary.getTags()) {
+            builder.append("T:").append(tag.getTag()).append('\n');
+        }
+
+        for (final Word word : vocabulary.getWords()) {
+            builder.append("W:").append(word.getWord()).append('\n');
+
+            for (final Meaning meaning : word.getMeanings()) {
+                builder.append(" M:").append(meaning.getMeaning())
+                        .append('|').append(meaning.getPronunciation())
+                        .append('|').append(meaning.getExample());
+
+                for (final Tag tag : meaning.getTags()) {
+                    builder.append('#').append(tag.getTag());
+                }
+
+                builder.append('\n');
+            }
+
+            for (final Relation relation : word.getRelations()) {
+                builder.append(" R:").append(relation.getWord().getWord())
+                        .append('|').append(relation.getRelation()).append('\n');
+            }
+        }
+
+        return builder.toString();
+    }
+
+    static void write(Vocabulary vocabulary, Path path, boolean compactEncoding) throws IOException {
+        try (final FileOutputStream stream = new FileOutputStream(path.toFile())) {
+            vocabulary.writeToFileStream(stream, compactEncoding);
+        }
+    }
+
+    static Vocabulary read(Path path) throws IOException {
+        try (final FileInputStream stream = new FileInputStream(path.toFile())) {
+            return Vocabulary.readFromFileStream(stream);
+        }
+    }
+}
@@ -0,0 +1,237 @@
+package com.staticom.wordreminder.core;
+
+import com.staticom.wordreminder.utility.BinaryStream;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class VocabularyFileTest {
+
+    private static final int HEADER_SIZE = 12;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private Path getPath() {
+        return folder.getRoot().toPath().resolve("deck.kv");
+    }
+
+    private static void assertCorrupted(byte[] file) {
+        try {
+            Vocabulary.readFromByteBuffer(ByteBuffer.wrap(file));
+            fail();
+        } catch (final IOException e) {
+        }
+    }
+
+    @Test
+    public void write_roundTrip() throws Exception {
+        final Vocabulary vocabulary = TestVocabularies.create(100, 1);
+
+        TestVocabularies.write(vocabulary, getPath(), false);
+
+        assertEquals(TestVocabularies.dump(vocabulary), TestVocabularies.dump(TestVocabularies.read(getPath())));
+    }
+
+    @Test
+    public void write_roundTripWithWordIndex() throws Exception {
+        final Vocabulary vocabulary = TestVocabularies.create(3000, 2);
+
+        TestVocabularies.write(vocabulary, getPath(), false);
+
+        final byte[] file = Files.readAllBytes(getPath());
+
+        assertEquals(TestVocabularies.dump(vocabulary), TestVocabularies.dump(TestVocabularies.read(getPath())));
+        assertEquals(TestVocabularies.dump(vocabulary),
+                TestVocabularies.dump(Vocabulary.readFromByteBuffer(ByteBuffer.wrap(file))));
+    }
+
+    @Test
+    public void write_compactRoundTrip() throws Exception {
+        final Vocabulary vocabulary = TestVocabularies.create(3000, 8);
+
+        TestVocabularies.write(vocabulary, getPath(), true);
+
+        final byte[] file = Files.readAllBytes(getPath());
+
+        assertEquals(TestVocabularies.dump(vocabulary), TestVocabularies.dump(TestVocabularies.read(getPath())));
+        assertEquals(TestVocabularies.dump(vocabulary),
+                TestVocabularies.dump(Vocabulary.readFromByteBuffer(ByteBuffer.wrap(file))));
+    }
+
+    @Test
+    public void write_compactIsSmaller() throws Exception {
+        final Vocabulary vocabulary = TestVocabularies.create(1000, 9);
+        final Path compactPath = folder.getRoot().toPath().resolve("compact.kv");
+
+        TestVocabularies.write(vocabulary, getPath(), false);
+        TestVocabularies.write(vocabulary, compactPath, true);
+
+        assertTrue(Files.size(compactPath) < Files.size(getPath()));
+    }
+
+    @Test
+    public void read_legacyFile() throws Exception {
+        final BinaryStream stream = new BinaryStream(64);
+
+        stream.writeInt(2);
+        stream.writeString("apple");
+        stream.writeString("");
+        stream.writeString("사과");
+        stream.writeString("banana");
+        stream.writeString("bəˈnɑːnə");
+        stream.writeString("바나나");
+
+        final Vocabulary vocabulary = Vocabulary.readFromByteBuffer(stream.toByteBuffer());
+
+        assertEquals(2, vocabulary.getWords().size());
+        assertEquals("사과", vocabulary.getWord(0).getMeaning(0).getMeaning());
+        assertEquals("bəˈnɑːnə", vocabulary.getWord(1).getMeaning(0).getPronunciation());
+    }
+
+    @Test
+    public void read_rejectsUnknownFlags() throws Exception {
+        TestVocabularies.write(TestVocabularies.create(10, 10), getPath(), true);
+
+        final byte[] file = Files.readAllBytes(getPath());
+
+        file[8] |= 2;
+
+        assertCorrupted(file);
+    }
+
+    @Test
+    public void read_detectsFlippedCompactContainers() throws Exception {
+        TestVocabularies.write(TestVocabularies.create(100, 11), getPath(), true);
+
+        final byte[] file = Files.readAllBytes(getPath());
+        final Random random = new Random(12);
+
+        for (int i = 0; i < 100; ++i) {
+            final byte[] corruptedFile = file.clone();
+
+            corruptedFile[HEADER_SIZE + random.nextInt(file.length - HEADER_SIZE)] ^= 1 + random.nextInt(255);
+
+            assertCorrupted(corruptedFile);
+        }
+    }
+
+    @Test
+    public void write_resolvesRelationsAndTagsByIdentity() throws Exception {
+        final Vocabulary vocabulary = new Vocabulary();
+        final Tag firstTag = new Tag(vocabulary, "tag");
+        final Tag secondTag = new Tag(vocabulary, "tag");
+
+        vocabulary.addTag(firstTag);
+        vocabulary.addTag(secondTag);
+
+        for (int i = 0; i < 3; ++i) {
+            final Word word = new Word("word");
+
+            word.addMeaning(new Meaning("meaning" + i, ""));
+            vocabulary.addWord(word);
+        }
+
+        vocabulary.getWord(0).addRelation(vocabulary.getWord(2), "last");
+        vocabulary.getWord(2).addRelation(vocabulary.getWord(2), "self");
+        vocabulary.getWord(1).getMeaning(0).addTag(secondTag);
+
+        TestVocabularies.write(vocabulary, getPath(), true);
+
+        final Vocabulary readVocabulary = TestVocabularies.read(getPath());
+
+        assertSame(readVocabulary.getWord(2), readVocabulary.getWord(0).getRelation(0).getWord());
+        assertSame(readVocabulary.getWord(2), readVocabulary.getWord(2).getRelation(0).getWord());
+        assertSame(readVocabulary.getTag(1), readVocabulary.getWord(1).getMeaning(0).getTags().get(0));
+    }
+
+    @Test
+    public void write_fileSnapshotIgnoresLaterEdits() throws Exception {
+        final Vocabulary vocabulary = TestVocabularies.create(100, 10);
+        final String expected = TestVocabularies.dump(vocabulary);
+        final Vocabulary.FileSnapshot snapshot = vocabulary.getFileSnapshot();
+
+        vocabulary.getWord(0).setWord("renamed");
+        vocabulary.getWord(1).getMeaning(0).addTag(vocabulary.getTag(0));
+        vocabulary.getWord(2).addMeaning(new Meaning("added", ""));
+        vocabulary.getWord(3).addRelation(vocabulary.getWord(4), "added");
+        vocabulary.getTag(1).setTag("renamed");
+        vocabulary.addTag(new Tag(vocabulary, "added"));
+        vocabulary.removeWord(vocabulary.getWord(5));
+
+        try (final OutputStream stream = Files.newOutputStream(getPath())) {
+            snapshot.writeToMemory(true).writeTo(stream);
+        }
+
+        assertEquals(expected, TestVocabularies.dump(TestVocabularies.read(getPath())));
+    }
+
+    @Test
+    public void write_emptyVocabulary() throws Exception {
+        TestVocabularies.write(new Vocabulary(), getPath(), false);
+
+        assertEquals(0, TestVocabularies.read(getPath()).getWords().size());
+    }
+
+    @Test
+    public void read_detectsFlippedWordRecord() throws Exception {
+        TestVocabularies.write(TestVocabularies.create(100, 3), getPath(), false);
+
+        final byte[] file = Files.readAllBytes(getPath());
+
+        file[HEADER_SIZE + 8] ^= 1;
+
+        assertCorrupted(file);
+    }
+
+    @Test
+    public void read_detectsFlippedContainers() throws Exception {
+        TestVocabularies.write(TestVocabularies.create(100, 4), getPath(), false);
+
+        final byte[] file = Files.readAllBytes(getPath());
+        final Random random = new Random(5);
+
+        for (int i = 0; i < 100; ++i) {
+            final byte[] corruptedFile = file.clone();
+
+            corruptedFile[file.length / 2 + random.nextInt(file.length / 2)] ^= 1 + random.nextInt(255);
+
+            assertCorrupted(corruptedFile);
+        }
+    }
+
+    @Test
+    public void read_detectsTruncation() throws Exception {
+        TestVocabularies.write(TestVocabularies.create(100, 6), getPath(), false);
+
+        final byte[] file = Files.readAllBytes(getPath());
+
+        assertCorrupted(Arrays.copyOf(file, file.length - 5));
+        assertCorrupted(Arrays.copyOf(file, file.length / 2));
+    }
+
+    @Test
+    public void read_rejectsNewerVersion() throws Exception {
+        TestVocabularies.write(TestVocabularies.create(10, 7), getPath(), false);
+
+        final byte[] file = Files.readAllBytes(getPath());
+
+        file[4] = 100;
+
+        assertCorrupted(file);
+    }
+}
@@ -0,0 +1,200 @@
+package com.staticom.wordreminder.core;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class VocabularyJournalTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private Path getPath() {
+        return folder.getRoot().toPath().resolve("deck.kv");
+    }
+
+    private Path getJournalPath() {
+        return VocabularyJournal.getJournalPath(getPath());
+    }
+
+    private static void save(VocabularyMetadata metadata) throws Exception {
+        metadata.saveVocabulary().get();
+        VocabularyPersistence.getInstance().waitForPendingSaves();
+    }
+
+    private VocabularyMetadata createSavedVocabulary(int wordCount) throws Exception {
+        final VocabularyMetadata metadata = new VocabularyMetadata("deck", getPath(), LocalDateTime.now());
+
+        metadata.setVocabulary(TestVocabularies.create(wordCount, wordCount));
+        save(metadata);
+
+        return metadata;
+    }
+
+    private Vocabulary load() throws Exception {
+        final VocabularyMetadata metadata = new VocabularyMetadata("deck", getPath(), LocalDateTime.now());
+
+        metadata.loadVocabulary();
+
+        return metadata.getVocabulary();
+    }
+
+    private static void edit(Vocabulary vocabulary) {
+        final Tag tag = new Tag(vocabulary, "new tag");
+        final Word word = new Word("new word");
+
+        vocabulary.getWord(5).setWord("renamed");
+        vocabulary.getWord(7).getMeaning(0).setMeaning("new meaning");
+        vocabulary.getWord(8).getMeaning(0).setExample("new example");
+        vocabulary.addTag(tag);
+        vocabulary.getWord(9).getMeaning(0).addTag(tag);
+        vocabulary.getTag(0).setTag("renamed tag");
+
+        final Tag removedTag = vocabulary.getTag(1);
+
+        for (final Meaning meaning : new ArrayList<>(removedTag.getMeanings())) {
+            meaning.removeTag(removedTag);
+        }
+
+        vocabulary.removeTag(removedTag);
+
+        vocabulary.addWord(word);
+        word.addMeaning(new Meaning("meaning1", "pronunciation1", "example1")).addTag(tag);
+        word.addMeaning(new Meaning("meaning2", ""));
+        word.addRelation(vocabulary.getWord(3), "relation");
+        vocabulary.getWord(20).addRelation(word, "relation");
+        vocabulary.removeWord(vocabulary.getWord(10));
+        vocabulary.getWord(11).removeMeaning(0);
+        vocabulary.getWord(11).addMeaning(new Meaning("replaced", ""));
+    }
+
+    @Test
+    public void save_appendsEditsToJournal() throws Exception {
+        final VocabularyMetadata metadata = createSavedVocabulary(100);
+        final Vocabulary vocabulary = metadata.getVocabulary();
+        final long fileSize = Files.size(getPath());
+
+        assertFalse(Files.exists(getJournalPath()));
+
+        edit(vocabulary);
+        save(metadata);
+
+        assertEquals(fileSize, Files.size(getPath()));
+        assertTrue(Files.exists(getJournalPath()));
+        assertEquals(TestVocabularies.dump(vocabulary), TestVocabularies.dump(load()));
+
+        vocabulary.removeWord(vocabulary.getWord(0));
+        save(metadata);
+
+        assertEquals(TestVocabularies.dump(vocabulary), TestVocabularies.dump(load()));
+    }
+
+    @Test
+    public void save_withoutChangesDoesNotAppend() throws Exception {
+        final VocabularyMetadata metadata = createSavedVocabulary(10);
+
+        save(metadata);
+
+        assertFalse(Files.exists(getJournalPath()));
+    }
+
+    @Test
+    public void replay_dropsTornTail() throws Exception {
+        final VocabularyMetadata metadata = createSavedVocabulary(100);
+        final Vocabulary vocabulary = metadata.getVocabulary();
+
+        vocabulary.getWord(0).setWord("first");
+        save(metadata);
+
+        final long journalSize = Files.size(getJournalPath());
+        final String expected = TestVocabularies.dump(vocabulary);
+
+        vocabulary.getWord(1).setWord("torn");
+        save(metadata);
+
+        try (final RandomAccessFile journal = new RandomAccessFile(getJournalPath().toFile(), "rw")) {
+            journal.setLength(journal.length() - 3);
+        }
+
+        assertEquals(expected, TestVocabularies.dump(load()));
+        assertEquals(journalSize, Files.size(getJournalPath()));
+    }
+
+    @Test
+    public void replay_stopsAtCorruptedRecord() throws Exception {
+        final VocabularyMetadata metadata = createSavedVocabulary(100);
+        final Vocabulary vocabulary = metadata.getVocabulary();
+
+        vocabulary.getWord(0).setWord("first");
+        save(metadata);
+
+        final long journalSize = Files.size(getJournalPath());
+        final String expected = TestVocabularies.dump(vocabulary);
+
+        vocabulary.getWord(1).setWord("corrupted");
+        save(metadata);
+
+        try (final RandomAccessFile journal = new RandomAccessFile(getJournalPath().toFile(), "rw")) {
+            journal.seek(journal.length() - 1);
+
+            final int lastByte = journal.read();
+
+            journal.seek(journal.length() - 1);
+            journal.write(lastByte ^ 1);
+        }
+
+        assertEquals(expected, TestVocabularies.dump(load()));
+        assertEquals(journalSize, Files.size(getJournalPath()));
+    }
+
+    @Test
+    public void replay_discardsJournalOfReplacedFile() throws Exception {
+        final VocabularyMetadata metadata = createSavedVocabulary(100);
+
+        metadata.getVocabulary().getWord(0).setWord("journaled");
+        save(metadata);
+
+        final Vocabulary replacement = TestVocabularies.create(50, 1);
+
+        TestVocabularies.write(replacement, getPath(), true);
+
+        assertEquals(TestVocabularies.dump(replacement), TestVocabularies.dump(load()));
+        assertFalse(Files.exists(getJournalPath()));
+    }
+
+    @Test
+    public void save_compactsLargeJournal() throws Exception {
+        final VocabularyMetadata metadata = createSavedVocabulary(1000);
+        final Vocabulary vocabulary = metadata.getVocabulary();
+
+        for (int i = 0; Files.exists(getJournalPath()) || i == 0; ++i) {
+            for (int j = 0; j < 100; ++j) {
+                vocabulary.getWord(j).getMeaning(0).setPronunciation("pronunciation" + i);
+            }
+
+            save(metadata);
+        }
+
+        assertEquals(TestVocabularies.dump(vocabulary), TestVocabularies.dump(TestVocabularies.read(getPath())));
+        assertEquals(TestVocabularies.dump(vocabulary), TestVocabularies.dump(load()));
+    }
+
+    @Test
+    public void waitForPendingSaves_keepsInterrupt() {
+        Thread.currentThread().interrupt();
+
+        VocabularyPersistence.getInstance().waitForPendingSaves();
+
+        assertTrue(Thread.interrupted());
+    }
+}
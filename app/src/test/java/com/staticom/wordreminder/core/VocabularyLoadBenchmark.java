@@ -0,0 +1,113 @@
+package com.staticom.wordreminder.core;
+
+import com.staticom.wordreminder.utility.BinaryStream;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import static org.junit.Assert.assertEquals;
+
+public class VocabularyLoadBenchmark {
+
+    private static final int[] WORD_COUNTS = {1000, 10000, 100000};
+    private static final int ROUNDS = 5;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private static int readUnbufferedInt(InputStream stream) throws IOException {
+        final byte[] bytes = new byte[4];
+        if (stream.read(bytes) != bytes.length) throw new IOException();
+
+        return bytes[0] & 0xFF | (bytes[1] & 0xFF) << 8 | (bytes[2] & 0xFF) << 16 | (bytes[3] & 0xFF) << 24;
+    }
+
+    private static String readUnbufferedString(InputStream stream) throws IOException {
+        final byte[] bytes = new byte[readUnbufferedInt(stream) * 2];
+        if (stream.read(bytes) != bytes.length) throw new IOException();
+
+        return new String(bytes, StandardCharsets.UTF_16LE);
+    }
+
+    private static int readWordsUnbuffered(Path path) throws IOException {
+        try (final FileInputStream stream = new FileInputStream(path.toFile())) {
+            readUnbufferedInt(stream);
+            readUnbufferedInt(stream);
+            readUnbufferedInt(stream);
+
+            final int wordCount = readUnbufferedInt(stream);
+
+            for (int i = 0; i < wordCount; ++i) {
+                readUnbufferedString(stream);
+                readUnbufferedString(stream);
+                readUnbufferedString(stream);
+            }
+
+            return wordCount;
+        }
+    }
+
+    private static int readWordsBuffered(Path path) throws IOException {
+        try (final FileInputStream file = new FileInputStream(path.toFile());
+             final BinaryStream stream = new BinaryStream(file)) {
+            stream.readInt();
+            stream.readInt();
+            stream.readInt();
+
+            final int wordCount = stream.readInt();
+
+            for (int i = 0; i < wordCount; ++i) {
+                stream.readString();
+                stream.readString();
+                stream.readString();
+            }
+
+            return wordCount;
+        }
+    }
+
+    private static int readVocabulary(Path path) throws IOException {
+        return TestVocabularies.read(path).getWords().size();
+    }
+
+    private interface Reader {
+        int read(Path path) throws IOException;
+    }
+
+    private static double measure(Path path, int wordCount, Reader reader) throws IOException {
+        long bestTime = Long.MAX_VALUE;
+
+        for (int i = 0; i < ROUNDS; ++i) {
+            final long startTime = System.nanoTime();
+
+            assertEquals(wordCount, reader.read(path));
+
+            bestTime = Math.min(bestTime, System.nanoTime() - startTime);
+        }
+
+        return bestTime / 1e6;
+    }
+
+    @Test
+    public void load() throws Exception {
+        for (final int wordCount : WORD_COUNTS) {
+            final Path path = folder.getRoot().toPath().resolve(wordCount + ".kv");
+
+            TestVocabularies.write(TestVocabularies.create(wordCount, wordCount), path, false);
+
+            final double unbufferedTime = measure(path, wordCount, VocabularyLoadBenchmark::readWordsUnbuffered);
+            final double bufferedTime = measure(path, wordCount, VocabularyLoadBenchmark::readWordsBuffered);
+            final double vocabularyTime = measure(path, wordCount, VocabularyLoadBenchmark::readVocabulary);
+
+            System.out.printf("%d words: word records unbuffered %.2f ms, buffered %.2f ms; full load %.2f ms%n",
+                    wordCount, unbufferedTime, bufferedTime, vocabularyTime);
+        }
+    }
+}
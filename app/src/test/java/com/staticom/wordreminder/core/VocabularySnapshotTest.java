@@ -0,0 +1,135 @@
+package com.staticom.wordreminder.core;
+
+import com.staticom.wordreminder.utility.TextNormalizer;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class VocabularySnapshotTest {
+
+    private static Vocabulary createVocabulary(int wordCount) {
+        final Vocabulary vocabulary = new Vocabulary();
+
+        for (int i = 0; i < wordCount; ++i) {
+            final Word word = new Word("word" + i);
+
+            word.addMeaning(new Meaning("meaning" + i, "pronunciation" + i, "example" + i));
+            vocabulary.addWord(word);
+        }
+
+        return vocabulary;
+    }
+
+    private static List<String> getTexts(VocabularySnapshot snapshot) {
+        final List<String> texts = new ArrayList<>();
+
+        for (final WordSnapshot word : snapshot.getWords()) {
+            texts.add(word.getWordKey().getNormalizedText() + ":" + word.getMeaningKey(0).getNormalizedText());
+        }
+
+        return texts;
+    }
+
+    @Test
+    public void getSnapshot_isUnaffectedByLaterEdits() {
+        final Vocabulary vocabulary = createVocabulary(100);
+        final VocabularySnapshot snapshot = vocabulary.getSnapshot();
+        final List<String> texts = getTexts(snapshot);
+
+        vocabulary.getWord(3).getMeaning(0).setMeaning("changed");
+        vocabulary.getWord(5).setWord("renamed");
+        vocabulary.removeWord(vocabulary.getWord(10));
+        vocabulary.addWord(new Word("added"));
+
+        assertEquals(texts, getTexts(snapshot));
+        assertFalse(vocabulary.isCurrent(snapshot));
+
+        final VocabularySnapshot newSnapshot = vocabulary.getSnapshot();
+
+        assertEquals(100, newSnapshot.size());
+        assertEquals("changed", newSnapshot.get(3).getMeaningKey(0).getNormalizedText());
+        assertEquals("renamed", newSnapshot.get(5).getWordKey().getNormalizedText());
+        assertEquals("word11", newSnapshot.get(10).getWordKey().getNormalizedText());
+        assertEquals("added", newSnapshot.get(99).getWordKey().getNormalizedText());
+        assertSame(newSnapshot, vocabulary.getSnapshot());
+        assertTrue(vocabulary.isCurrent(newSnapshot));
+    }
+
+    @Test
+    public void getSnapshot_refreshesWordRefs() {
+        final Vocabulary vocabulary = createVocabulary(10);
+        final Vocabulary wordRefs = new Vocabulary();
+
+        wordRefs.addWordRef(vocabulary.getWord(0));
+
+        assertFalse(wordRefs.getSnapshot().isIndexable());
+
+        vocabulary.getWord(0).setWord("renamed");
+
+        assertEquals("renamed", wordRefs.getSnapshot().get(0).getWordKey().getNormalizedText());
+        assertEquals(1, wordRefs.search("renamed").getWords().size());
+    }
+
+    @Test
+    public void searchWords_concurrentWithEdits() throws Exception {
+        final Vocabulary vocabulary = createVocabulary(3000);
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        final List<Future<?>> futures = new ArrayList<>();
+        final Random random = new Random(1);
+
+        try {
+            for (int i = 0; i < 300; ++i) {
+                final Word word = vocabulary.getWord(random.nextInt(vocabulary.getWords().size()));
+
+                switch (i % 3) {
+                    case 0:
+                        word.getMeaning(0).setMeaning("meaning" + random.nextInt(100));
+                        break;
+
+                    case 1:
+                        vocabulary.removeWord(word);
+                        break;
+
+                    default:
+                        final Word newWord = new Word("word" + random.nextInt(100));
+
+                        newWord.addMeaning(new Meaning("meaning" + random.nextInt(100), ""));
+                        vocabulary.addWord(newWord);
+                        break;
+                }
+
+                final VocabularySnapshot snapshot = vocabulary.getSnapshot();
+                final String query = TextNormalizer.normalize("ning" + random.nextInt(10));
+
+                futures.add(executor.submit(() -> {
+                    final List<WordSnapshot> expected = new ArrayList<>();
+
+                    for (final WordSnapshot wordSnapshot : snapshot.getWords()) {
+                        if (wordSnapshot.matches(SearchMode.PLAIN, query)) {
+                            expected.add(wordSnapshot);
+                        }
+                    }
+
+                    assertEquals(expected, snapshot.searchWords(query, null));
+                }));
+            }
+
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
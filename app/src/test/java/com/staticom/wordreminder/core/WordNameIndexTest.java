@@ -0,0 +1,105 @@
+package com.staticom.wordreminder.core;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class WordNameIndexTest {
+
+    private static int scan(Vocabulary vocabulary, String word) {
+        for (int i = 0; i < vocabulary.getWords().size(); ++i) {
+            if (vocabulary.getWord(i).getWord().equals(word)) return i;
+        }
+
+        return -1;
+    }
+
+    private static void assertIndexMatchesScan(Vocabulary vocabulary, int nameCount) {
+        for (int i = 0; i < nameCount; ++i) {
+            final String word = "word" + i;
+
+            assertEquals(scan(vocabulary, word), vocabulary.indexOfWord(word));
+            assertEquals(scan(vocabulary, word) != -1, vocabulary.containsWord(word));
+        }
+    }
+
+    @Test
+    public void indexOfWord_tracksEdits() {
+        final Random random = new Random(1);
+        final Vocabulary vocabulary = new Vocabulary();
+        final Vocabulary otherVocabulary = new Vocabulary();
+        final int nameCount = 50;
+
+        for (int i = 0; i < 1000; ++i) {
+            final int size = vocabulary.getWords().size();
+
+            switch (random.nextInt(5)) {
+                case 0:
+                case 1:
+                    vocabulary.addWord(new Word("word" + random.nextInt(nameCount)));
+                    break;
+
+                case 2:
+                    if (size > 0) {
+                        vocabulary.removeWord(vocabulary.getWord(random.nextInt(size)));
+                    }
+                    break;
+
+                case 3:
+                    if (size > 0) {
+                        vocabulary.getWord(random.nextInt(size)).setWord("word" + random.nextInt(nameCount));
+                    }
+                    break;
+
+                default:
+                    if (random.nextInt(10) == 0) {
+                        final Word word = new Word("word" + random.nextInt(nameCount));
+
+                        otherVocabulary.addWord(word);
+                        vocabulary.addWordRef(word);
+                    }
+                    break;
+            }
+
+            assertIndexMatchesScan(vocabulary, nameCount);
+        }
+    }
+
+    @Test
+    public void indexOfWord_returnsFirstDuplicate() {
+        final Vocabulary vocabulary = new Vocabulary();
+
+        for (int i = 0; i < 3; ++i) {
+            vocabulary.addWord(new Word("word"));
+        }
+
+        assertEquals(0, vocabulary.indexOfWord("word"));
+
+        vocabulary.removeWord(vocabulary.getWord(0));
+
+        assertEquals(0, vocabulary.indexOfWord("word"));
+
+        vocabulary.getWord(0).setWord("renamed");
+
+        assertEquals(1, vocabulary.indexOfWord("word"));
+        assertEquals(0, vocabulary.indexOfWord("renamed"));
+    }
+
+    @Test
+    public void findWord_returnsIndexedWord() {
+        final Vocabulary vocabulary = new Vocabulary();
+        final Word word = new Word("apple");
+
+        vocabulary.addWord(new Word("banana"));
+        vocabulary.addWord(word);
+
+        assertSame(word, vocabulary.findWord("apple"));
+        assertTrue(vocabulary.containsWord("banana"));
+        assertFalse(vocabulary.containsWord("Apple"));
+    }
+}
@@ -0,0 +1,62 @@
+package com.staticom.wordreminder.utility;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public class AtomicFileWriterTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private long getFileCount() throws Exception {
+        try (final Stream<Path> files = Files.list(folder.getRoot().toPath())) {
+            return files.count();
+        }
+    }
+
+    @Test
+    public void write_replacesFile() throws Exception {
+        final Path path = folder.getRoot().toPath().resolve("file");
+
+        AtomicFileWriter.write(path, new byte[]{1, 2, 3});
+        AtomicFileWriter.write(path, new byte[]{4, 5});
+
+        assertArrayEquals(new byte[]{4, 5}, Files.readAllBytes(path));
+        assertEquals(1, getFileCount());
+    }
+
+    @Test
+    public void write_reusesTempFileLeftByCrash() throws Exception {
+        final Path path = folder.getRoot().toPath().resolve("file");
+
+        Files.write(path.resolveSibling("file.tmp"), new byte[1024]);
+
+        AtomicFileWriter.write(path, new byte[]{1, 2, 3});
+
+        assertArrayEquals(new byte[]{1, 2, 3}, Files.readAllBytes(path));
+        assertEquals(1, getFileCount());
+    }
+
+    @Test
+    public void close_withoutCommitKeepsOldFile() throws Exception {
+        final Path path = folder.getRoot().toPath().resolve("file");
+
+        AtomicFileWriter.write(path, new byte[]{1, 2, 3});
+
+        try (final AtomicFileWriter writer = new AtomicFileWriter(path)) {
+            writer.getStream().write(new byte[]{4, 5});
+        }
+
+        assertArrayEquals(new byte[]{1, 2, 3}, Files.readAllBytes(path));
+        assertFalse(Files.exists(path.resolveSibling("file.tmp")));
+    }
+}
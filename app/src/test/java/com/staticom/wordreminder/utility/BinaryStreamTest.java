@@ -0,0 +1,266 @@
+package com.staticom.wordreminder.utility;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.zip.CRC32C;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
+
+public class BinaryStreamTest {
+
+    private static final int VALUE_COUNT = 10000;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private static String createString(int index) {
+        final StringBuilder builder = new StringBuilder();
+
+        for (int i = 0; i < index % 10; ++i) {
+            builder.append("단어").append(index);
+        }
+
+        return builder.toString();
+    }
+
+    private Path writeValues() throws Exception {
+        final Path path = folder.getRoot().toPath().resolve("stream");
+
+        try (final FileOutputStream file = new FileOutputStream(path.toFile());
+             final BinaryStream stream = new BinaryStream(file)) {
+            for (int i = 0; i < VALUE_COUNT; ++i) {
+                stream.writeInt(i * 31 - VALUE_COUNT);
+                stream.writeString(createString(i));
+            }
+        }
+
+        return path;
+    }
+
+    @Test
+    public void readWrite_roundTripAcrossBufferBoundaries() throws Exception {
+        final Path path = writeValues();
+
+        try (final FileInputStream file = new FileInputStream(path.toFile());
+             final BinaryStream stream = new BinaryStream(file)) {
+            for (int i = 0; i < VALUE_COUNT; ++i) {
+                assertEquals(i * 31 - VALUE_COUNT, stream.readInt());
+                assertEquals(createString(i), stream.readString());
+            }
+        }
+    }
+
+    @Test
+    public void write_isLittleEndianUtf16() throws Exception {
+        final BinaryStream stream = new BinaryStream(16);
+
+        stream.writeInt(0x04030201);
+        stream.writeString("가a");
+
+        final ByteBuffer buffer = stream.toByteBuffer();
+        final byte[] bytes = new byte[buffer.remaining()];
+
+        buffer.get(bytes);
+
+        assertArrayEquals(new byte[]{1, 2, 3, 4, 2, 0, 0, 0, 0x00, (byte)0xAC, 'a', 0}, bytes);
+    }
+
+    @Test
+    public void write_largeArrayBypassesBuffer() throws Exception {
+        final Path path = folder.getRoot().toPath().resolve("stream");
+        final byte[] bytes = new byte[100000];
+
+        for (int i = 0; i < bytes.length; ++i) {
+            bytes[i] = (byte)i;
+        }
+
+        try (final FileOutputStream file = new FileOutputStream(path.toFile());
+             final BinaryStream stream = new BinaryStream(file)) {
+            stream.writeInt(1);
+            stream.write(bytes);
+            stream.writeInt(2);
+        }
+
+        try (final FileInputStream file = new FileInputStream(path.toFile());
+             final BinaryStream stream = new BinaryStream(file)) {
+            assertEquals(1, stream.readInt());
+            assertArrayEquals(bytes, stream.read(bytes.length));
+            assertEquals(2, stream.readInt());
+        }
+    }
+
+    @Test
+    public void checksum_matchesCrc32cAcrossRefills() throws Exception {
+        final Path path = writeValues();
+        final byte[] file = Files.readAllBytes(path);
+        final CRC32C expected = new CRC32C();
+
+        expected.update(file, 0, file.length);
+
+        try (final FileInputStream input = new FileInputStream(path.toFile());
+             final BinaryStream stream = new BinaryStream(input)) {
+            stream.beginChecksum();
+
+            for (int i = 0; i < VALUE_COUNT; ++i) {
+                stream.readInt();
+                stream.readString();
+            }
+
+            assertEquals((int)expected.getValue(), stream.endChecksum());
+        }
+    }
+
+    @Test(expected = EOFException.class)
+    public void readString_truncatedBuffer() throws Exception {
+        final BinaryStream stream = new BinaryStream(16);
+
+        stream.writeString("truncated");
+
+        final ByteBuffer buffer = stream.toByteBuffer();
+
+        buffer.limit(buffer.limit() - 1);
+
+        new BinaryStream(buffer).readString();
+    }
+
+    private static BinaryStream createCompactStream() {
+        final BinaryStream stream = new BinaryStream(16);
+
+        stream.setCompactEncoding(true);
+
+        return stream;
+    }
+
+    private static BinaryStream toCompactInputStream(BinaryStream stream) {
+        final BinaryStream inputStream = new BinaryStream(stream.toByteBuffer());
+
+        inputStream.setCompactEncoding(true);
+
+        return inputStream;
+    }
+
+    @Test
+    public void varInt_roundTrip() throws Exception {
+        final int[] values = {0, 1, 127, 128, 16383, 16384, 2097151, 2097152, Integer.MAX_VALUE, -1, Integer.MIN_VALUE};
+        final BinaryStream stream = createCompactStream();
+
+        for (final int value : values) {
+            stream.writeVarInt(value);
+        }
+
+        final BinaryStream inputStream = toCompactInputStream(stream);
+
+        for (final int value : values) {
+            assertEquals(value, inputStream.readVarInt());
+        }
+    }
+
+    @Test
+    public void varInt_isLeb128() throws Exception {
+        final BinaryStream stream = createCompactStream();
+
+        stream.writeVarInt(1);
+        stream.writeVarInt(300);
+        stream.writeVarInt(-1);
+
+        final ByteBuffer buffer = stream.toByteBuffer();
+        final byte[] bytes = new byte[buffer.remaining()];
+
+        buffer.get(bytes);
+
+        assertArrayEquals(new byte[]{1, (byte)0xAC, 0x02, -1, -1, -1, -1, 0x0F}, bytes);
+    }
+
+    @Test(expected = EOFException.class)
+    public void readVarInt_truncated() throws Exception {
+        final BinaryStream stream = toCompactInputStream(new BinaryStream(16));
+
+        stream.readVarInt();
+    }
+
+    @Test
+    public void readVarInt_rejectsOverlongValue() throws Exception {
+        final BinaryStream stream = new BinaryStream(ByteBuffer.wrap(new byte[]{-1, -1, -1, -1, -1, 0}));
+
+        stream.setCompactEncoding(true);
+
+        try {
+            stream.readVarInt();
+            fail();
+        } catch (final IOException e) {
+            assertFalse(e instanceof EOFException);
+        }
+    }
+
+    @Test
+    public void compactString_roundTrip() throws Exception {
+        final String[] values = {"", "ascii", "é", "단어", "\uD83D\uDE00 emoji", createString(9999)};
+        final BinaryStream stream = createCompactStream();
+
+        for (final String value : values) {
+            stream.writeString(value);
+        }
+
+        final BinaryStream inputStream = toCompactInputStream(stream);
+
+        for (final String value : values) {
+            assertEquals(value, inputStream.readString());
+        }
+    }
+
+    @Test
+    public void compactString_isUtf8WithVarIntLength() throws Exception {
+        final BinaryStream stream = createCompactStream();
+        final String value = "a단\uD83D\uDE00";
+
+        stream.writeString(value);
+
+        final ByteBuffer buffer = stream.toByteBuffer();
+        final byte[] bytes = new byte[buffer.remaining()];
+        final byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+
+        buffer.get(bytes);
+
+        assertEquals(utf8.length, bytes[0]);
+        assertArrayEquals(utf8, Arrays.copyOfRange(bytes, 1, bytes.length));
+    }
+
+    @Test
+    public void compactString_replacesUnpairedSurrogate() throws Exception {
+        final BinaryStream stream = createCompactStream();
+
+        stream.writeString("a\uD83Db");
+
+        assertEquals("a?b", toCompactInputStream(stream).readString());
+    }
+
+    @Test(expected = EOFException.class)
+    public void compactString_truncated() throws Exception {
+        final BinaryStream stream = createCompactStream();
+
+        stream.writeString("truncated");
+
+        final ByteBuffer buffer = stream.toByteBuffer();
+
+        buffer.limit(buffer.limit() - 1);
+
+        final BinaryStream inputStream = new BinaryStream(buffer);
+
+        inputStream.setCompactEncoding(true);
+        inputStream.readString();
+    }
+}
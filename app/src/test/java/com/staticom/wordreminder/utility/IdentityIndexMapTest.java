@@ -0,0 +1,75 @@
+package com.staticom.wordreminder.utility;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class IdentityIndexMapTest {
+
+    @Test
+    public void get_missingKey() {
+        assertEquals(-1, new IdentityIndexMap(0).get(new Object()));
+    }
+
+    @Test
+    public void get_usesIdentity() {
+        final String first = new String("key");
+        final String second = new String("key");
+        final IdentityIndexMap map = new IdentityIndexMap(2);
+
+        map.put(first, 1);
+
+        assertEquals(1, map.get(first));
+        assertEquals(-1, map.get(second));
+
+        map.put(second, 2);
+
+        assertEquals(1, map.get(first));
+        assertEquals(2, map.get(second));
+        assertEquals(2, map.size());
+    }
+
+    @Test
+    public void put_growsPastExpectedSize() {
+        final List<Object> keys = new ArrayList<>();
+        final IdentityIndexMap map = new IdentityIndexMap(1);
+
+        for (int i = 0; i < 10000; ++i) {
+            keys.add(new Object());
+            map.put(keys.get(i), i);
+        }
+
+        assertEquals(keys.size(), map.size());
+
+        for (int i = 0; i < keys.size(); ++i) {
+            assertEquals(i, map.get(keys.get(i)));
+        }
+    }
+
+    @Test
+    public void put_replacesValue() {
+        final Object key = new Object();
+        final IdentityIndexMap map = new IdentityIndexMap(1);
+
+        map.put(key, 1);
+        map.put(key, 2);
+
+        assertEquals(2, map.get(key));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    public void of_keepsFirstIndex() {
+        final Object first = new Object();
+        final Object second = new Object();
+        final IdentityIndexMap map = IdentityIndexMap.of(Arrays.asList(first, second, first));
+
+        assertEquals(0, map.get(first));
+        assertEquals(1, map.get(second));
+        assertEquals(2, map.size());
+    }
+}